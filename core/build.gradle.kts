@@ -4,6 +4,7 @@ plugins {
     id("maven-publish")
     id("io.github.goooler.shadow") version "8.1.8"
     id("org.ajoberstar.grgit.service") version "5.2.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 val pluginVersion = project.property("pluginVersion") as String
@@ -37,6 +38,17 @@ dependencies {
     }
 }
 
+// Benchmarks run outside a server, so they need the classes the plugin only compiles against
+configurations.named("jmhImplementation") {
+    extendsFrom(configurations.compileOnly.get())
+}
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+}
+
 java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(21))
 }
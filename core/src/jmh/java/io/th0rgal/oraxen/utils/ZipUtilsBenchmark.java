@@ -0,0 +1,147 @@
+package io.th0rgal.oraxen.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compares writing a synthetic pack through the ZipOutputStream the pack used to be written with
+ * against {@link ZipUtils} compressing on a worker pool into a {@link PackZipWriter}.
+ * The setup also writes the pack twice through ZipUtils and fails if the two files differ.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ZipUtilsBenchmark {
+
+    private static final String COMMENT = "The content of this texture pack belongs to the owner of the server";
+
+    @Param("20000")
+    private int entries;
+
+    @Param({"BEST_COMPRESSION", "DEFAULT_COMPRESSION"})
+    private String compression;
+
+    private int level;
+    private String[] folders;
+    private String[] names;
+    private byte[][] contents;
+    private File folder;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        level = Deflater.class.getDeclaredField(compression).getInt(null);
+        folders = new String[entries];
+        names = new String[entries];
+        contents = new byte[entries][];
+
+        // Mostly json models that compress well, with some textures that barely compress
+        final Random random = new Random(20000L);
+        for (int i = 0; i < entries; i++) {
+            final boolean texture = i % 4 == 0;
+            folders[i] = "assets/oraxen/" + (texture ? "textures/item/" : "models/item/") + (i % 64);
+            names[i] = "entry_" + i + (texture ? ".png" : ".json");
+            contents[i] = texture ? texture(random) : model(random, i);
+        }
+
+        folder = Files.createTempDirectory("oraxen-zip-benchmark").toFile();
+        final File first = new File(folder, "deterministic_1.zip");
+        final File second = new File(folder, "deterministic_2.zip");
+        writePack(first);
+        writePack(second);
+        if (!Arrays.equals(Files.readAllBytes(first.toPath()), Files.readAllBytes(second.toPath())))
+            throw new IllegalStateException("Writing the same files twice produced different packs");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        final File[] files = folder.listFiles();
+        if (files != null) for (final File file : files) file.delete();
+        folder.delete();
+    }
+
+    @Benchmark
+    public File zipOutputStream() throws IOException {
+        final File output = new File(folder, "zip_output_stream.zip");
+        try (final FileOutputStream fos = new FileOutputStream(output);
+             final ZipOutputStream zos = new ZipOutputStream(fos, StandardCharsets.UTF_8)) {
+            zos.setLevel(level);
+            zos.setComment(COMMENT);
+            for (final VirtualFile file : files()) {
+                final ZipEntry zipEntry = new ZipEntry(file.getPath());
+                zipEntry.setLastModifiedTime(FileTime.fromMillis(0L));
+                zos.putNextEntry(zipEntry);
+                final byte[] bytes = new byte[1024];
+                int length;
+                try (final InputStream fis = file.getInputStream()) {
+                    while ((length = fis.read(bytes)) >= 0)
+                        zos.write(bytes, 0, length);
+                }
+                zos.closeEntry();
+            }
+        }
+        return output;
+    }
+
+    @Benchmark
+    public File packZipWriter() {
+        final File output = new File(folder, "pack_zip_writer.zip");
+        writePack(output);
+        return output;
+    }
+
+    private void writePack(final File output) {
+        if (!ZipUtils.writeZipFile(output, files(), null, level, COMMENT, false, duplicate -> {
+        })) throw new IllegalStateException("Could not write " + output);
+    }
+
+    private List<VirtualFile> files() {
+        final List<VirtualFile> files = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++)
+            files.add(new VirtualFile(folders[i], names[i], new ByteArrayInputStream(contents[i])));
+        return files;
+    }
+
+    private static byte[] model(final Random random, final int index) {
+        final StringBuilder builder = new StringBuilder("{\"parent\":\"item/generated\",\"textures\":{");
+        final int layers = 1 + random.nextInt(4);
+        for (int layer = 0; layer < layers; layer++)
+            builder.append(layer == 0 ? "" : ",").append("\"layer").append(layer).append("\":\"oraxen:item/entry_").append(index).append('"');
+        builder.append("},\"overrides\":[");
+        final int overrides = random.nextInt(60);
+        for (int override = 0; override < overrides; override++)
+            builder.append(override == 0 ? "" : ",").append("{\"predicate\":{\"custom_model_data\":").append(random.nextInt(100000))
+                    .append("},\"model\":\"oraxen:item/entry_").append(random.nextInt(20000)).append("\"}");
+        return builder.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] texture(final Random random) {
+        final byte[] texture = new byte[256 + random.nextInt(4096)];
+        random.nextBytes(texture);
+        return texture;
+    }
+}
@@ -172,6 +172,8 @@ public class OraxenBlocks {
 
         if (mechanic.hasDryout() && mechanic.getDryout().isFarmBlock()) {
             pdc.set(FARMBLOCK_KEY, PersistentDataType.STRING, mechanic.getItemID());
+            if (NoteBlockMechanicFactory.getFarmBlockTask() != null)
+                NoteBlockMechanicFactory.getFarmBlockTask().getIndex().add(block);
         }
 
         if (mechanic.isStorage() && mechanic.getStorage().getStorageType() == StorageMechanic.StorageType.STORAGE) {
@@ -204,8 +206,11 @@ public class OraxenBlocks {
             mechanic.getLight().createBlockLight(block);
         if (mechanic.isSapling()) {
             SaplingMechanic sapling = mechanic.getSaplingMechanic();
-            if (sapling != null && sapling.canGrowNaturally())
+            if (sapling != null && sapling.canGrowNaturally()) {
                 BlockHelpers.getPDC(block).set(SAPLING_KEY, PersistentDataType.INTEGER, sapling.getNaturalGrowthTime());
+                if (StringBlockMechanicFactory.getSaplingTask() != null)
+                    StringBlockMechanicFactory.getSaplingTask().track(block);
+            }
         }
     }
 
@@ -284,6 +289,10 @@ public class OraxenBlocks {
             mechanic.getStorage().dropStorageContent(block);
         }
         block.setType(Material.AIR);
+        if (NoteBlockMechanicFactory.getPlacedBlockIndex() != null)
+            NoteBlockMechanicFactory.getPlacedBlockIndex().remove(block);
+        if (mechanic.hasDryout() && NoteBlockMechanicFactory.getFarmBlockTask() != null)
+            NoteBlockMechanicFactory.getFarmBlockTask().getIndex().remove(block);
         checkNoteBlockAbove(loc);
         return true;
     }
@@ -314,6 +323,10 @@ public class OraxenBlocks {
         if (mechanic.hasLight()) mechanic.getLight().removeBlockLight(block);
         if (mechanic.isTall()) blockAbove.setType(Material.AIR);
         block.setType(Material.AIR);
+        if (StringBlockMechanicFactory.getPlacedBlockIndex() != null)
+            StringBlockMechanicFactory.getPlacedBlockIndex().remove(block);
+        if (mechanic.isSapling() && StringBlockMechanicFactory.getSaplingTask() != null)
+            StringBlockMechanicFactory.getSaplingTask().untrack(block);
         io.th0rgal.oraxen.utils.scheduler.OraxenScheduler.runTaskLater(OraxenPlugin.get(), () -> {
             StringBlockMechanicListener.fixClientsideUpdate(block.getLocation());
             if (blockAbove.getType() == Material.TRIPWIRE)
@@ -350,18 +363,13 @@ public class OraxenBlocks {
     public static NoteBlockMechanic getNoteBlockMechanic(BlockData data) {
         if (!NoteBlockMechanicFactory.isEnabled()) return null;
         if (!(data instanceof NoteBlock noteBlock)) return null;
-        return NoteBlockMechanicFactory
-                .getBlockMechanic((noteBlock.getInstrument().getType()) * 25
-                        + noteBlock.getNote().getId() + (noteBlock.isPowered() ? 400 : 0) - 26);
+        return NoteBlockMechanicFactory.getBlockMechanic(noteBlock);
     }
 
     public static NoteBlockMechanic getNoteBlockMechanic(Block block) {
         if (!NoteBlockMechanicFactory.isEnabled()) return null;
         if (block.getType() != Material.NOTE_BLOCK) return null;
-        final NoteBlock noteblock = (NoteBlock) block.getBlockData();
-        return NoteBlockMechanicFactory
-                .getBlockMechanic((noteblock.getInstrument().getType()) * 25
-                        + noteblock.getNote().getId() + (noteblock.isPowered() ? 400 : 0) - 26);
+        return NoteBlockMechanicFactory.getBlockMechanic((NoteBlock) block.getBlockData());
     }
 
     @org.jetbrains.annotations.Nullable
@@ -393,6 +401,13 @@ public class OraxenBlocks {
         return StringBlockMechanicFactory.getInstance().getMechanic(itemID);
     }
 
+    @org.jetbrains.annotations.Nullable
+    public static BlockMechanic getBlockMechanic(BlockData blockData) {
+        if (blockData.getMaterial() == Material.MUSHROOM_STEM) {
+            return BlockMechanicFactory.getBlockMechanic(BlockMechanic.getCode(blockData));
+        } else return null;
+    }
+
     @org.jetbrains.annotations.Nullable
     public static BlockMechanic getBlockMechanic(Block block) {
         if (block.getType() == Material.MUSHROOM_STEM) {
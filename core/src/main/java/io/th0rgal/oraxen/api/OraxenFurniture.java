@@ -7,6 +7,7 @@ import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.items.ItemUpdater;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.BlockLocation;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureFactory;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureIndex;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.storage.StorageMechanic;
 import io.th0rgal.oraxen.utils.BlockHelpers;
@@ -50,9 +51,11 @@ public class OraxenFurniture {
      * @return true if the block is an instance of a Furniture, otherwise false
      */
     public static boolean isFurniture(Block block) {
+        if (block.getType() == Material.BARRIER && getFurnitureMechanic(block) != null) return true;
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null && index.areEntitiesIndexed(block)) return index.hasFurnitureEntity(block);
         BoundingBox blockBox = BoundingBox.of(BlockHelpers.toCenterLocation(block.getLocation()), 0.5, 0.5, 0.5);
-        return (block.getType() == Material.BARRIER && getFurnitureMechanic(block) != null) ||
-                !block.getWorld().getNearbyEntities(blockBox).stream().filter(OraxenFurniture::isFurniture).toList().isEmpty();
+        return !block.getWorld().getNearbyEntities(blockBox).stream().filter(OraxenFurniture::isFurniture).toList().isEmpty();
     }
 
     /**
@@ -203,6 +206,8 @@ public class OraxenFurniture {
         // Ensure the baseEntity is baseEntity and not interactionEntity
         if (OraxenFurniture.isInteractionEntity(baseEntity)) baseEntity = mechanic.getBaseEntity(baseEntity);
         if (baseEntity == null) return false;
+        if (mechanic.hasEvolution() && FurnitureFactory.getEvolutionTask() != null)
+            FurnitureFactory.getEvolutionTask().getIndex().remove(baseEntity);
         // Allows for changing the FurnitureType in config and still remove old entities
 
         if (player != null) {
@@ -233,6 +238,11 @@ public class OraxenFurniture {
     public static FurnitureMechanic getFurnitureMechanic(Block block) {
         if (!FurnitureFactory.isEnabled() || block == null) return null;
         if (block.getType() != Material.BARRIER) return null;
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null && index.isIndexed(block)) {
+            FurnitureIndex.Barrier barrier = index.getBarrier(block);
+            return barrier != null ? FurnitureFactory.getInstance().getMechanic(barrier.itemID()) : null;
+        }
         final String mechanicID = BlockHelpers.getPDC(block).get(FURNITURE_KEY, PersistentDataType.STRING);
         return (FurnitureMechanic) FurnitureFactory.getInstance().getMechanic(mechanicID);
     }
@@ -274,13 +284,14 @@ public class OraxenFurniture {
         FurnitureMechanic mechanic = OraxenFurniture.getFurnitureMechanic(entity);
         if (mechanic == null) return;
         entity = mechanic.getBaseEntity(entity);
-        if (entity == null) return;
+        if (entity == null || mechanic.isUpToDate(entity)) return;
 
         ItemStack oldItem = FurnitureMechanic.getFurnitureItem(entity);
         ItemStack newItem = ItemUpdater.updateItem(oldItem);
         FurnitureMechanic.setFurnitureItem(entity, newItem);
 
-        if (Settings.EXPERIMENTAL_FURNITURE_TYPE_UPDATE.toBool()) {
+        if (!Settings.EXPERIMENTAL_FURNITURE_TYPE_UPDATE.toBool()) mechanic.stamp(entity);
+        else {
             final PersistentDataContainer oldPdc = entity.getPersistentDataContainer();
             final BlockFace oldFacing = entity instanceof ItemFrame itemFrame ? itemFrame.getAttachedFace() : BlockFace.UP;
 
@@ -297,9 +308,14 @@ public class OraxenFurniture {
                                     // Check if seat changed, if so remove and place new
                                     if (oldPdc.has(SEAT_KEY, DataType.UUID) && mechanic.hasSeat())
                                         // Check if any displayEntity properties changed, if so remove and place new
-                                        if (mechanic.hasDisplayEntityProperties() && mechanic.getDisplayEntityProperties().ensureSameDisplayProperties(entity))
+                                        if (mechanic.hasDisplayEntityProperties() && mechanic.getDisplayEntityProperties().ensureSameDisplayProperties(entity)) {
+                                            mechanic.stamp(entity);
                                             return;
-                    } else return;
+                                        }
+                    } else {
+                        mechanic.stamp(entity);
+                        return;
+                    }
                 }
             }
 
@@ -311,6 +327,7 @@ public class OraxenFurniture {
             List<Map<?, ?>> serializedPdc = PersistentDataSerializer.toMapList(oldPdc);
             serializedPdc.removeIf(map -> Stream.of(MUSIC_DISC_KEY, EVOLUTION_KEY, STORAGE_KEY, PERSONAL_STORAGE_KEY).map(NamespacedKey::toString).noneMatch(map::containsValue));
             PersistentDataSerializer.fromMapList(serializedPdc, newEntity.getPersistentDataContainer());
+            mechanic.stamp(newEntity);
         }
     }
 }
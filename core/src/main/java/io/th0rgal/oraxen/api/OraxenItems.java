@@ -3,17 +3,18 @@ package io.th0rgal.oraxen.api;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.compatibilities.provided.ecoitems.WrappedEcoItem;
 import io.th0rgal.oraxen.compatibilities.provided.mythiccrucible.WrappedCrucibleItem;
+import io.th0rgal.oraxen.config.ConfigsManager;
 import io.th0rgal.oraxen.config.Message;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.items.ItemBuilder;
 import io.th0rgal.oraxen.items.ItemParser;
+import io.th0rgal.oraxen.items.ItemRegistry;
 import io.th0rgal.oraxen.items.ModelData;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
 import io.th0rgal.oraxen.mechanics.MechanicsManager;
 import io.th0rgal.oraxen.nms.NMSHandlers;
 import io.th0rgal.oraxen.pack.generation.DuplicationHandler;
 import io.th0rgal.oraxen.utils.AdventureUtils;
-import io.th0rgal.oraxen.utils.OraxenYaml;
 import io.th0rgal.oraxen.utils.VersionUtil;
 import io.th0rgal.oraxen.utils.logs.Logs;
 import net.Indyuce.mmoitems.MMOItems;
@@ -22,7 +23,9 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.components.FoodComponent;
 import org.bukkit.inventory.meta.components.JukeboxPlayableComponent;
 import org.bukkit.persistence.PersistentDataType;
@@ -37,16 +40,18 @@ import java.util.stream.Stream;
 public class OraxenItems {
 
     public static final NamespacedKey ITEM_ID = new NamespacedKey(OraxenPlugin.get(), "id");
-    private static Map<File, Map<String, ItemBuilder>> map;
-    private static Set<String> items;
+    private static volatile ItemRegistry registry = ItemRegistry.EMPTY;
 
     public static void loadItems() {
         try {
             ItemParser.MODEL_DATAS_BY_ID.clear();
             ModelData.DATAS.clear();
-            OraxenPlugin.get().getConfigsManager().assignAllUsedModelDatas();
-            OraxenPlugin.get().getConfigsManager().parseAllItemTemplates();
+            // Converting rewrites item files, so it runs before they are read
             DuplicationHandler.convertOldMigrateItemConfig();
+            final ConfigsManager configsManager = OraxenPlugin.get().getConfigsManager();
+            final Map<File, YamlConfiguration> itemConfigs = configsManager.loadItemConfigs();
+            configsManager.assignAllUsedModelDatas(itemConfigs);
+            configsManager.parseAllItemTemplates(itemConfigs);
 
             // Test the environment for common compatibility issues before proceeding
             if (Settings.DEBUG.toBool()) {
@@ -77,12 +82,9 @@ public class OraxenItems {
                 }
             }
 
-            map = OraxenPlugin.get().getConfigsManager().parseItemConfig();
-            items = new HashSet<>();
-            for (final Map<String, ItemBuilder> subMap : map.values())
-                items.addAll(subMap.keySet());
-
-            ensureComponentDataHandled();
+            final ItemRegistry loaded = new ItemRegistry(configsManager.parseItemConfig(itemConfigs));
+            ensureComponentDataHandled(loaded, itemConfigs);
+            registry = loaded;
         } catch (Exception e) {
             Logs.logError("Failed to load Oraxen items!");
             Logs.logError("Error: " + e.getMessage());
@@ -96,9 +98,9 @@ public class OraxenItems {
      * Primarily for handling data that requires OraxenItem's<br>
      * For example FoodComponent#getUsingConvertsTo
      */
-    private static void ensureComponentDataHandled() {
+    private static void ensureComponentDataHandled(final ItemRegistry loaded, final Map<File, YamlConfiguration> itemConfigs) {
         if (VersionUtil.atOrAbove("1.21"))
-            for (final Entry<File, Map<String, ItemBuilder>> entry : map.entrySet()) {
+            for (final Entry<File, Map<String, ItemBuilder>> entry : loaded.getItemsByFile().entrySet()) {
                 Map<String, ItemBuilder> subMap = entry.getValue();
                 for (final Entry<String, ItemBuilder> subEntry : subMap.entrySet()) {
                     String itemId = subEntry.getKey();
@@ -109,9 +111,11 @@ public class OraxenItems {
                     if (foodComponent == null)
                         continue;
 
-                    ConfigurationSection section = OraxenYaml.loadConfiguration(entry.getKey())
-                            .getConfigurationSection(itemId + ".Components.food.replacement");
-                    ItemStack replacementItem = parseFoodComponentReplacement(section);
+                    YamlConfiguration configuration = itemConfigs.get(entry.getKey());
+                    if (configuration == null)
+                        continue;
+                    ConfigurationSection section = configuration.getConfigurationSection(itemId + ".Components.food.replacement");
+                    ItemStack replacementItem = parseFoodComponentReplacement(loaded, section);
                     // foodComponent.setUsingConvertsTo(replacementItem);
                     itemBuilder.setFoodComponent(foodComponent).regen();
                 }
@@ -119,7 +123,7 @@ public class OraxenItems {
     }
 
     @Nullable
-    private static ItemStack parseFoodComponentReplacement(@Nullable ConfigurationSection section) {
+    private static ItemStack parseFoodComponentReplacement(final ItemRegistry loaded, @Nullable ConfigurationSection section) {
         if (section == null)
             return null;
 
@@ -131,9 +135,14 @@ public class OraxenItems {
                 replacementItem = null;
             } else
                 replacementItem = new ItemStack(material);
-        } else if (section.isString("oraxen_item"))
-            replacementItem = OraxenItems.getItemById(section.getString("oraxen_item")).build();
-        else if (section.isString("crucible_item"))
+        } else if (section.isString("oraxen_item")) {
+            // The items are not swapped in yet, so the replacement is resolved from the registry being loaded
+            ItemBuilder replacement = loaded.get(section.getString("oraxen_item"));
+            if (replacement == null) {
+                Message.ITEM_NOT_FOUND.log(AdventureUtils.tagResolver("item", section.getString("oraxen_item")));
+                replacementItem = null;
+            } else replacementItem = replacement.build();
+        } else if (section.isString("crucible_item"))
             replacementItem = new WrappedCrucibleItem(section.getString("crucible_item")).build();
         else if (section.isString("mmoitems_id") && section.isString("mmoitems_type"))
             replacementItem = MMOItems.plugin.getItem(section.getString("mmoitems_type"),
@@ -153,25 +162,49 @@ public class OraxenItems {
     }
 
     public static String getIdByItem(final ItemStack item) {
-        return (item == null || item.getItemMeta() == null || item.getItemMeta().getPersistentDataContainer().isEmpty())
-                ? null
-                : item.getItemMeta().getPersistentDataContainer().get(ITEM_ID, PersistentDataType.STRING);
+        return item != null ? NMSHandlers.getHandler().getItemId(item) : null;
+    }
+
+    /**
+     * Reads the item-ID through the ItemMeta, used when the NMSHandler cannot access the item directly
+     */
+    public static String getIdByItemMeta(final ItemStack item) {
+        // getItemMeta returns a copy, so it is only fetched once
+        if (item == null || !item.hasItemMeta()) return null;
+        final ItemMeta itemMeta = item.getItemMeta();
+        if (itemMeta == null || itemMeta.getPersistentDataContainer().isEmpty()) return null;
+        return itemMeta.getPersistentDataContainer().get(ITEM_ID, PersistentDataType.STRING);
     }
 
     public static boolean exists(final String itemId) {
-        return items.contains(itemId);
+        return registry.contains(itemId);
     }
 
     public static boolean exists(final ItemStack itemStack) {
-        return items.contains(OraxenItems.getIdByItem(itemStack));
+        return registry.contains(OraxenItems.getIdByItem(itemStack));
     }
 
     public static Optional<ItemBuilder> getOptionalItemById(final String id) {
-        return entryStream().filter(entry -> entry.getKey().equals(id)).findFirst().map(Entry::getValue);
+        return Optional.ofNullable(registry.get(id));
     }
 
     public static ItemBuilder getItemById(final String id) {
-        return getOptionalItemById(id).orElse(null);
+        return registry.get(id);
+    }
+
+    /**
+     * @return the item-config file the given item is defined in
+     */
+    @Nullable
+    public static File getFileById(final String id) {
+        return registry.getFile(id);
+    }
+
+    /**
+     * @return the current snapshot of all loaded items, replaced as a whole whenever items are reloaded
+     */
+    public static ItemRegistry getRegistry() {
+        return registry;
     }
 
     public static ItemBuilder getBuilderByItem(ItemStack item) {
@@ -184,7 +217,8 @@ public class OraxenItems {
     }
 
     public static List<ItemBuilder> getUnexcludedItems(final File file) {
-        return map.get(file).values().stream().filter(item -> !item.getOraxenMeta().isExcludedFromInventory()).toList();
+        return registry.getItemsByFile().getOrDefault(file, Map.of()).values().stream()
+                .filter(item -> !item.getOraxenMeta().isExcludedFromInventory()).toList();
     }
 
     public static List<ItemStack> getItemStacksByName(final List<List<String>> lists) {
@@ -211,11 +245,11 @@ public class OraxenItems {
     }
 
     public static Map<File, Map<String, ItemBuilder>> getMap() {
-        return map != null ? map : new HashMap<>();
+        return registry.getItemsByFile();
     }
 
     public static Map<String, ItemBuilder> getEntriesAsMap() {
-        return entryStream().collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+        return registry.getItemsById();
     }
 
     public static Set<Entry<String, ItemBuilder>> getEntries() {
@@ -232,15 +266,15 @@ public class OraxenItems {
     }
 
     public static Set<String> getNames() {
-        return nameStream().collect(Collectors.toSet());
+        return registry.getItemsById().keySet();
     }
 
     public static String[] nameArray() {
-        return nameStream().toArray(String[]::new);
+        return registry.getNames();
     }
 
     public static Stream<String> nameStream() {
-        return entryStream().map(Entry::getKey);
+        return registry.getItemsById().keySet().stream();
     }
 
     public static Stream<ItemBuilder> itemStream() {
@@ -248,14 +282,11 @@ public class OraxenItems {
     }
 
     public static Stream<Entry<String, ItemBuilder>> entryStream() {
-        return map.values().stream().flatMap(map -> map.entrySet().stream());
+        return registry.getItemsById().entrySet().stream();
     }
 
     public static String[] getItemNames() {
-        return items.stream().filter(item -> {
-            ItemBuilder builder = OraxenItems.getItemById(item);
-            return builder != null && builder.hasOraxenMeta() && !builder.getOraxenMeta().isExcludedFromCommands();
-        }).toArray(String[]::new);
+        return registry.getCommandNames();
     }
 
 }
@@ -39,6 +39,7 @@ public class CommandsManager {
                         (new ModelDataCommand()).getHighestModelDataCommand(),
                         (new GlyphCommand()).getGlyphCommand(),
                         (new GlyphInfoCommand()).getGlyphInfoCommand(),
+                        (new GlyphStatsCommand()).getGlyphStatsCommand(),
                         (new ItemInfoCommand()).getItemInfoCommand(),
                         (new BlockInfoCommand()).getBlockInfoCommand(),
                         (new HudCommand()).getHudCommand(),
@@ -5,6 +5,7 @@ import dev.jorel.commandapi.arguments.StringArgument;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.config.ConfigsManager;
 import io.th0rgal.oraxen.config.Message;
+import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.protectionlib.ProtectionLib;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -22,6 +23,7 @@ public class DebugCommand {
                     YamlConfiguration settings = configsManager.getSettings();
                     boolean debugState = args.getOptional("toggle").isPresent() ? Boolean.parseBoolean(args.getOptional("toggle").get().toString()) : !settings.getBoolean("debug", true);
                     settings.set("debug", debugState);
+                    Settings.reload();
                     try {
                         settings.save(configsManager.getSettingsFile());
                         String state = (debugState ? "enabled" : "disabled");
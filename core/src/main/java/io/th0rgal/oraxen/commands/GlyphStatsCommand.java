@@ -0,0 +1,48 @@
+package io.th0rgal.oraxen.commands;
+
+import com.google.common.cache.CacheStats;
+import dev.jorel.commandapi.CommandAPICommand;
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.nms.GlyphHandlers;
+import io.th0rgal.oraxen.nms.JsonComponentCache;
+import io.th0rgal.oraxen.utils.AdventureUtils;
+import net.kyori.adventure.audience.Audience;
+
+public class GlyphStatsCommand {
+
+    CommandAPICommand getGlyphStatsCommand() {
+        return new CommandAPICommand("glyphstats")
+                .withPermission("oraxen.command.glyphstats")
+                .withSubcommand(new CommandAPICommand("reset")
+                        .withPermission("oraxen.command.glyphstats")
+                        .executes((sender, args) -> {
+                            GlyphHandlers.resetPrefilterStats();
+                            GlyphHandlers.resetJsonCache();
+                            OraxenPlugin.get().getAudience().sender(sender).sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<prefix><#55ffa4>Glyph statistics have been reset"));
+                        }))
+                .executes((sender, args) -> {
+                    Audience audience = OraxenPlugin.get().getAudience().sender(sender);
+                    long hits = GlyphHandlers.getPrefilterHits();
+                    long misses = GlyphHandlers.getPrefilterMisses();
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Rewritten strings: <aqua>" + hits));
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Passed through strings: <aqua>" + misses));
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Rewrite ratio: <aqua>" + ratio(hits, misses)));
+
+                    JsonComponentCache cache = GlyphHandlers.getJsonCache();
+                    if (cache == null) {
+                        audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Component cache: <aqua>disabled"));
+                        return;
+                    }
+                    CacheStats stats = cache.stats();
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Cached components: <aqua>" + cache.size()
+                            + " <dark_aqua>(~<aqua>" + (cache.estimateMemory() / 1024) + " KB<dark_aqua>)"));
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Cache hit ratio: <aqua>" + ratio(stats.hitCount(), stats.missCount())
+                            + " <dark_aqua>(<aqua>" + stats.hitCount() + "<dark_aqua> hits, <aqua>" + stats.missCount() + "<dark_aqua> misses, <aqua>" + stats.evictionCount() + "<dark_aqua> evictions)"));
+                });
+    }
+
+    static String ratio(long part, long other) {
+        long total = part + other;
+        return total == 0 ? "0%" : String.format("%.2f%%", part * 100.0 / total);
+    }
+}
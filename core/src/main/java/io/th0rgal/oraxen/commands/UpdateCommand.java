@@ -11,6 +11,8 @@ import io.th0rgal.oraxen.config.Message;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.items.ItemUpdater;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.BlockLocation;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureFactory;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureIndex;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.BlockHelpers;
@@ -93,9 +95,11 @@ public class UpdateCommand {
             if (rootLoc == null) return;
 
             //OraxenFurniture.remove(block.getLocation(), null);
+            FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
             mechanic.getLocations(yaw, rootLoc, mechanic.getBarriers()).forEach(loc -> {
                 loc.getBlock().setType(Material.AIR);
                 new CustomBlockData(loc.getBlock(), OraxenPlugin.get()).clear();
+                if (index != null) index.removeBarrier(loc.getBlock());
             });
             mechanic.place(rootLoc, yaw, BlockFace.UP);
         }
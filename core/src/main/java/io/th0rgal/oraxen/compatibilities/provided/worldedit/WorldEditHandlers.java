@@ -1,5 +1,6 @@
 package io.th0rgal.oraxen.compatibilities.provided.worldedit;
 
+import com.sk89q.worldedit.EditSession;
 import com.sk89q.worldedit.WorldEdit;
 import com.sk89q.worldedit.WorldEditException;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
@@ -7,24 +8,24 @@ import com.sk89q.worldedit.entity.BaseEntity;
 import com.sk89q.worldedit.entity.Entity;
 import com.sk89q.worldedit.event.extent.EditSessionEvent;
 import com.sk89q.worldedit.extent.AbstractDelegateExtent;
+import com.sk89q.worldedit.function.operation.Operation;
+import com.sk89q.worldedit.function.operation.RunContext;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.util.eventbus.Subscribe;
+import com.sk89q.worldedit.world.block.BlockState;
 import com.sk89q.worldedit.world.block.BlockStateHolder;
-import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.api.OraxenFurniture;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
-import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic;
-import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanic;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.PlacedBlockIndex;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanicFactory;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanicFactory;
 import io.th0rgal.oraxen.utils.VersionUtil;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.BlockFace;
-import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.EntityType;
 import org.enginehub.linbus.tree.LinCompoundTag;
 import org.enginehub.linbus.tree.LinStringTag;
@@ -58,7 +59,12 @@ public class WorldEditHandlers {
 
     @Subscribe
     public void onEditSession(EditSessionEvent event) {
-        if (event.getWorld() == null) return;
+        // The event fires once per stage, the innermost one sits below masks, change limits and the history,
+        // so it sees undo and redo too and only the blocks that are actually written
+        if (event.getWorld() == null || event.getStage() != EditSession.Stage.BEFORE_CHANGE) return;
+        World world = BukkitAdapter.adapt(event.getWorld());
+        if (world == null) return;
+        WorldEditQueue.Session session = new WorldEditQueue.Session(world);
 
         event.setExtent(new AbstractDelegateExtent(event.getExtent()) {
 
@@ -69,7 +75,7 @@ public class WorldEditHandlers {
                 if (!furnitureTypes.contains(baseEntity.getType()))
                     return super.createEntity(location, baseEntity);
 
-                Location bukkitLocation = BukkitAdapter.adapt(BukkitAdapter.adapt(event.getWorld()), location);
+                Location bukkitLocation = BukkitAdapter.adapt(world, location);
                 FurnitureMechanic mechanic = getFurnitureMechanic(baseEntity);
                 if (mechanic == null) return super.createEntity(location, baseEntity);
 
@@ -87,45 +93,59 @@ public class WorldEditHandlers {
                     baseEntity.setNbt(compoundTag);
                 }
 
-                Bukkit.getScheduler().scheduleSyncDelayedTask(OraxenPlugin.get(), () -> {
-                    EntityType type = BukkitAdapter.adapt(baseEntity.getType());
-                    bukkitLocation.getNearbyEntities(.5, 0.5, 0.5)
-                        .stream()
-                        .filter(e -> e.getType().equals(type))
-                        .min(Comparator.comparingDouble(entity -> entity.getLocation().distanceSquared(bukkitLocation)))
-                        .ifPresent(e -> mechanic.setEntityData(e, e.getLocation().getYaw(), BlockFace.NORTH));
-                }, 5L);
-
-                return super.createEntity(location, baseEntity);
+                Entity created = super.createEntity(location, baseEntity);
+                if (created != null) session.furniture(bukkitLocation, mechanic, BukkitAdapter.adapt(baseEntity.getType()));
+                return created;
             }
 
             @Override
             public <T extends BlockStateHolder<T>> boolean setBlock(BlockVector3 pos, T block) throws WorldEditException {
-                BlockData blockData = BukkitAdapter.adapt(block);
-                World world = BukkitAdapter.adapt(event.getWorld());
-                Location loc = BukkitAdapter.adapt(world, pos);
-                Mechanic mechanic = OraxenBlocks.getOraxenBlock(blockData);
-                if (blockData.getMaterial() == Material.NOTE_BLOCK) {
-                    if (mechanic != null && Settings.WORLDEDIT_NOTEBLOCKS.toBool()) {
-                        Bukkit.getScheduler().scheduleSyncDelayedTask(OraxenPlugin.get(), () -> OraxenBlocks.place(mechanic.getItemID(), loc), 1L);
-                    }
-                } else if (blockData.getMaterial() == Material.TRIPWIRE) {
-                    if (mechanic != null && Settings.WORLDEDIT_STRINGBLOCKS.toBool()) {
-                        Bukkit.getScheduler().scheduleSyncDelayedTask(OraxenPlugin.get(), () -> OraxenBlocks.place(mechanic.getItemID(), loc), 1L);
+                boolean noteBlocks = Settings.WORLDEDIT_NOTEBLOCKS.toBool();
+                boolean stringBlocks = Settings.WORLDEDIT_STRINGBLOCKS.toBool();
+
+                Material material = BukkitAdapter.adapt(block.getBlockType());
+                boolean placing = material == Material.NOTE_BLOCK || material == Material.TRIPWIRE;
+                // Only the state the edit replaces tells if an Oraxen block is removed, read through the extent rather than the world
+                BlockState replaced = placing ? null : getExtent().getBlock(pos);
+                if (!super.setBlock(pos, block)) return false;
+
+                if (placing) {
+                    if (material == Material.NOTE_BLOCK ? noteBlocks : stringBlocks) {
+                        Mechanic mechanic = OraxenBlocks.getOraxenBlock(BukkitAdapter.adapt(block));
+                        if (mechanic != null) session.place(pos, mechanic.getItemID());
+                    } else {
+                        // Oraxen does not place these blocks, so radius limitations have to scan their section again
+                        PlacedBlockIndex index = material == Material.NOTE_BLOCK
+                                ? NoteBlockMechanicFactory.getPlacedBlockIndex() : StringBlockMechanicFactory.getPlacedBlockIndex();
+                        if (index != null) index.invalidate(world, pos.getX(), pos.getY(), pos.getZ());
                     }
                 } else {
-                    if (world == null) return super.setBlock(pos, block);
-                    Mechanic replacingMechanic = OraxenBlocks.getOraxenBlock(loc);
-                    if (replacingMechanic == null) return super.setBlock(pos, block);
-                    if (replacingMechanic instanceof StringBlockMechanic && !Settings.WORLDEDIT_STRINGBLOCKS.toBool())
-                        return super.setBlock(pos, block);
-                    if (replacingMechanic instanceof NoteBlockMechanic && !Settings.WORLDEDIT_NOTEBLOCKS.toBool())
-                        return super.setBlock(pos, block);
-
-                    Bukkit.getScheduler().scheduleSyncDelayedTask(OraxenPlugin.get(), () -> OraxenBlocks.remove(loc, null), 1L);
+                    Material replacedMaterial = BukkitAdapter.adapt(replaced.getBlockType());
+                    if ((replacedMaterial == Material.NOTE_BLOCK && noteBlocks) || (replacedMaterial == Material.TRIPWIRE && stringBlocks)) {
+                        if (OraxenBlocks.getOraxenBlock(BukkitAdapter.adapt(replaced)) != null) session.remove(pos);
+                    } else if (replacedMaterial == Material.MUSHROOM_STEM) {
+                        // Mushroom blocks have no WorldEdit setting and were always removed
+                        if (OraxenBlocks.getBlockMechanic(BukkitAdapter.adapt(replaced)) != null) session.remove(pos);
+                    }
                 }
+                return true;
+            }
 
-                return super.setBlock(pos, block);
+            @Override
+            protected Operation commitBefore() {
+                // Operations of the outer extents run first and flush their buffered blocks through this extent,
+                // so the session is only handed to the queue once this operation runs, after every change was written
+                return new Operation() {
+                    @Override
+                    public Operation resume(RunContext run) {
+                        session.commit();
+                        return null;
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                };
             }
         });
     }
@@ -0,0 +1,151 @@
+package io.th0rgal.oraxen.compatibilities.provided.worldedit;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenBlocks;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
+import io.th0rgal.oraxen.utils.scheduler.OraxenScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.EntityType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Oraxen blocks and furniture changed by WorldEdit, applied once the edit session has committed.
+ * A session collects its changes grouped by chunk, with only the last change kept per block.
+ * Committed chunks are worked through until {@link Settings#WORLDEDIT_TICK_BUDGET} milliseconds are spent
+ * and continue in the next tick.
+ * Furniture is only queued {@link #FURNITURE_DELAY} ticks after the commit, as WorldEdit spawns its entities later than it sets blocks.
+ */
+public class WorldEditQueue implements Runnable {
+
+    private static final Queue<ChunkChanges> PENDING = new ConcurrentLinkedQueue<>();
+    private static final long FURNITURE_DELAY = 5L;
+    private static BukkitTask task;
+
+    private ChunkChanges current;
+    private int index = 0;
+
+    private WorldEditQueue() {
+    }
+
+    private static synchronized void start() {
+        if (task != null || PENDING.isEmpty()) return;
+        task = OraxenScheduler.runTaskTimer(OraxenPlugin.get(), new WorldEditQueue(), 1L, 1L);
+    }
+
+    private static synchronized boolean stop() {
+        // A session might have committed since the queue was found empty
+        if (!PENDING.isEmpty()) return false;
+        if (task != null) task.cancel();
+        task = null;
+        return true;
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, Settings.WORLDEDIT_TICK_BUDGET.toInt(5)));
+        do {
+            if (current == null || index >= current.changes.size()) {
+                current = PENDING.poll();
+                index = 0;
+                if (current == null && stop()) return;
+                if (current == null) continue;
+            }
+            current.changes.get(index++).apply(current.world);
+        } while (System.nanoTime() < deadline);
+    }
+
+    /**
+     * The changes of a single edit session, handed to the queue when the session commits
+     */
+    public static class Session {
+
+        private final World world;
+        private final Map<Long, PendingChunk> chunks = new LinkedHashMap<>();
+
+        public Session(World world) {
+            this.world = world;
+        }
+
+        public synchronized void place(BlockVector3 position, String itemID) {
+            chunk(position.getX(), position.getZ()).blocks.put(position, new Place(position, itemID));
+        }
+
+        public synchronized void remove(BlockVector3 position) {
+            chunk(position.getX(), position.getZ()).blocks.put(position, new Remove(position));
+        }
+
+        public synchronized void furniture(Location location, FurnitureMechanic mechanic, EntityType type) {
+            chunk(location.getBlockX(), location.getBlockZ()).furniture.add(new Furniture(location, mechanic, type));
+        }
+
+        public synchronized void commit() {
+            if (chunks.isEmpty()) return;
+            List<ChunkChanges> furniture = new ArrayList<>();
+            for (PendingChunk chunk : chunks.values()) {
+                if (!chunk.blocks.isEmpty()) PENDING.add(new ChunkChanges(world, new ArrayList<>(chunk.blocks.values())));
+                if (!chunk.furniture.isEmpty()) furniture.add(new ChunkChanges(world, chunk.furniture));
+            }
+            chunks.clear();
+            start();
+
+            if (!furniture.isEmpty()) OraxenScheduler.runTaskLater(OraxenPlugin.get(), () -> {
+                PENDING.addAll(furniture);
+                start();
+            }, FURNITURE_DELAY);
+        }
+
+        private PendingChunk chunk(int x, int z) {
+            return chunks.computeIfAbsent((long) (x >> 4) << 32 | ((z >> 4) & 0xFFFFFFFFL), k -> new PendingChunk());
+        }
+    }
+
+    private static class PendingChunk {
+        private final Map<BlockVector3, Change> blocks = new LinkedHashMap<>();
+        private final List<Change> furniture = new ArrayList<>();
+    }
+
+    private record ChunkChanges(World world, List<Change> changes) {
+    }
+
+    private interface Change {
+        void apply(World world);
+    }
+
+    private record Place(BlockVector3 position, String itemID) implements Change {
+        @Override
+        public void apply(World world) {
+            OraxenBlocks.place(itemID, new Location(world, position.getX(), position.getY(), position.getZ()));
+        }
+    }
+
+    private record Remove(BlockVector3 position) implements Change {
+        @Override
+        public void apply(World world) {
+            OraxenBlocks.remove(new Location(world, position.getX(), position.getY(), position.getZ()), null);
+        }
+    }
+
+    private record Furniture(Location location, FurnitureMechanic mechanic, EntityType type) implements Change {
+        @Override
+        public void apply(World world) {
+            location.getNearbyEntities(0.5, 0.5, 0.5)
+                    .stream()
+                    .filter(e -> e.getType().equals(type))
+                    .min(Comparator.comparingDouble(entity -> entity.getLocation().distanceSquared(location)))
+                    .ifPresent(e -> mechanic.setEntityData(e, e.getLocation().getYaw(), BlockFace.NORTH));
+        }
+    }
+}
@@ -28,12 +28,15 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class WorldEditUtils {
 
@@ -109,9 +112,30 @@ public class WorldEditUtils {
         }
     }
 
-    protected static void pasteSchematic(Location loc, File schematic, Boolean replaceBlocks, Boolean shouldCopyBiomes, Boolean shouldCopyEntities) {
+    /**
+     * Schematics are parsed once and kept until the mechanics are reloaded, so sapling checks never hit the disk
+     */
+    private static final Map<File, CachedSchematic> SCHEMATICS = new ConcurrentHashMap<>();
+
+    /**
+     * @param clipboard The parsed schematic, can be reused for every paste
+     * @param min       The lowest corner of the schematic, relative to its origin
+     * @param max       The highest corner of the schematic, relative to its origin
+     */
+    private record CachedSchematic(Clipboard clipboard, BlockVector3 min, BlockVector3 max) {
+    }
+
+    protected static void clearSchematicCache() {
+        SCHEMATICS.clear();
+    }
+
+    @Nullable
+    private static CachedSchematic getSchematic(File schematic) {
+        CachedSchematic cached = SCHEMATICS.get(schematic);
+        if (cached != null) return cached;
+
         ClipboardFormat clipboardFormat = ClipboardFormats.findByFile(schematic);
-        if (clipboardFormat == null) return;
+        if (clipboardFormat == null) return null;
         Clipboard clipboard;
 
         try (final FileInputStream inputStream = new FileInputStream(schematic); ClipboardReader reader = clipboardFormat.getReader(inputStream)) {
@@ -120,17 +144,27 @@ public class WorldEditUtils {
             throw new RuntimeException(e);
         }
 
+        BlockVector3 origin = clipboard.getOrigin();
+        cached = new CachedSchematic(clipboard, clipboard.getMinimumPoint().subtract(origin), clipboard.getMaximumPoint().subtract(origin));
+        SCHEMATICS.put(schematic, cached);
+        return cached;
+    }
+
+    protected static void pasteSchematic(Location loc, File schematic, Boolean replaceBlocks, Boolean shouldCopyBiomes, Boolean shouldCopyEntities) {
+        CachedSchematic cached = getSchematic(schematic);
+        if (cached == null) return;
+
         try {
             World world = loc.getWorld();
             if (world == null) return;
             com.sk89q.worldedit.world.World adaptedWorld = BukkitAdapter.adapt(world);
             EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder().world(adaptedWorld).maxBlocks(-1).build();
-            Operation operation = new ClipboardHolder(clipboard).createPaste(editSession)
+            Operation operation = new ClipboardHolder(cached.clipboard).createPaste(editSession)
                     .to(BlockVector3.at(loc.getX(), loc.getY(), loc.getZ()))
                     .copyBiomes(shouldCopyBiomes).copyEntities(shouldCopyEntities).ignoreAirBlocks(true).build();
 
             try {
-                if (replaceBlocks || getBlocksInSchematic(clipboard, loc).isEmpty())
+                if (replaceBlocks || getBlocksInSchematic(cached, loc, 1).isEmpty())
                     Operations.complete(operation);
                 editSession.close();
             } catch (WorldEditException e) {
@@ -143,20 +177,23 @@ public class WorldEditUtils {
         }
     }
 
-    private static List<Block> getBlocksInSchematic(Clipboard clipboard, Location loc) {
+    /**
+     * Collects the blocks the schematic would replace, except the block at its origin the sapling itself is on, stopping after limit blocks
+     */
+    private static List<Block> getBlocksInSchematic(CachedSchematic schematic, Location loc, int limit) {
         List<Block> list = new ArrayList<>();
         World world = loc.getWorld();
         assert world != null;
 
-        for (int x = clipboard.getMinimumPoint().getX(); x <= clipboard.getMaximumPoint().getX(); x++) {
-            for (int y = clipboard.getMinimumPoint().getY(); y <= clipboard.getMaximumPoint().getY(); y++) {
-                for (int z = clipboard.getMinimumPoint().getZ(); z <= clipboard.getMaximumPoint().getZ(); z++) {
-                    Location offset = new Location(world, x - clipboard.getOrigin().getBlockX(), y - clipboard.getOrigin().getBlockY(), z - clipboard.getOrigin().getBlockZ());
-
-                    Block block = world.getBlockAt(loc.clone().add(offset));
+        int baseX = loc.getBlockX(), baseY = loc.getBlockY(), baseZ = loc.getBlockZ();
+        for (int x = schematic.min.getX(); x <= schematic.max.getX(); x++) {
+            for (int y = schematic.min.getY(); y <= schematic.max.getY(); y++) {
+                for (int z = schematic.min.getZ(); z <= schematic.max.getZ(); z++) {
+                    if (x == 0 && y == 0 && z == 0) continue;
+                    Block block = world.getBlockAt(baseX + x, baseY + y, baseZ + z);
                     if (BlockHelpers.isReplaceable(block)) continue;
-                    if (BlockHelpers.toBlockLocation(loc).equals(BlockHelpers.toBlockLocation(loc))) continue;
                     list.add(block);
+                    if (list.size() >= limit) return list;
                 }
             }
         }
@@ -164,33 +201,7 @@ public class WorldEditUtils {
     }
 
     public static List<Block> getBlocksInSchematic(Location loc, File schematic) {
-        List<Block> list = new ArrayList<>();
-        World world = loc.getWorld();
-        assert world != null;
-
-        ClipboardFormat clipboardFormat = ClipboardFormats.findByFile(schematic);
-        if (clipboardFormat == null) return list;
-        Clipboard clipboard;
-
-        try (final FileInputStream inputStream = new FileInputStream(schematic); ClipboardReader reader = clipboardFormat.getReader(inputStream)) {
-            clipboard = reader.read();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-
-        for (int x = clipboard.getMinimumPoint().getX(); x <= clipboard.getMaximumPoint().getX(); x++) {
-            for (int y = clipboard.getMinimumPoint().getY(); y <= clipboard.getMaximumPoint().getY(); y++) {
-                for (int z = clipboard.getMinimumPoint().getZ(); z <= clipboard.getMaximumPoint().getZ(); z++) {
-                    Location offset = new Location(world, x - clipboard.getOrigin().getBlockX(), y - clipboard.getOrigin().getBlockY(), z - clipboard.getOrigin().getBlockZ());
-
-                    Block block = world.getBlockAt(loc.clone().add(offset));
-                    if (BlockHelpers.isReplaceable(block)) continue;
-                    if (BlockHelpers.toBlockLocation(loc).equals(BlockHelpers.toBlockLocation(loc))) continue;
-                    list.add(block);
-                }
-            }
-        }
-
-        return list;
+        CachedSchematic cached = getSchematic(schematic);
+        return cached != null ? getBlocksInSchematic(cached, loc, Integer.MAX_VALUE) : new ArrayList<>();
     }
 }
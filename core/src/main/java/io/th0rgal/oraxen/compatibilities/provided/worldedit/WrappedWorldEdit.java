@@ -41,6 +41,10 @@ public class WrappedWorldEdit {
         if (loaded) WorldEditUtils.pasteSchematic(loc, schematic, replaceBlocks, shouldCopyBiomes, shouldCopyEntities);
     }
 
+    public static void clearSchematicCache() {
+        if (loaded) WorldEditUtils.clearSchematicCache();
+    }
+
     public static List<Block> getBlocksInSchematic(Location loc, File schematic) {
         if (loaded) return WorldEditUtils.getBlocksInSchematic(loc, schematic);
         else return new ArrayList<>();
@@ -23,6 +23,10 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class ConfigsManager {
 
@@ -104,6 +108,7 @@ public class ConfigsManager {
         ResourcesManager tempManager = new ResourcesManager(OraxenPlugin.get());
         mechanics = validate(tempManager, "mechanics.yml", defaultMechanics);
         settings = validate(tempManager, "settings.yml", defaultSettings);
+        SettingsSnapshot.compile(settings);
         font = validate(tempManager, "font.yml", defaultFont);
         hud = validate(tempManager, "hud.yml", defaultHud);
         sound = validate(tempManager, "sound.yml", defaultSound);
@@ -231,18 +236,50 @@ public class ConfigsManager {
         return output;
     }
 
-    public Map<File, Map<String, ItemBuilder>> parseItemConfig() {
+    /**
+     * Reads every item file once so all loading steps share the same trees.
+     * Files are read and parsed on a worker pool, the result keeps the sorted file order
+     * so model-data assignment and item parsing stay deterministic. Invalid YAML files are skipped.
+     */
+    public Map<File, YamlConfiguration> loadItemConfigs() {
+        Map<File, YamlConfiguration> configs = new LinkedHashMap<>();
+        if (itemsFolder == null || !itemsFolder.exists()) return configs;
+        List<File> files = FileUtils.listFiles(itemsFolder, new String[]{"yml"}, true).stream().sorted().toList();
+        if (files.isEmpty()) return configs;
+
+        int workers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), files.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<YamlConfiguration>> results = new ArrayList<>(files.size());
+            for (File file : files) results.add(executor.submit(() -> OraxenYaml.loadValidConfiguration(file)));
+            for (int i = 0; i < files.size(); i++) {
+                YamlConfiguration configuration = results.get(i).get();
+                if (configuration != null) configs.put(files.get(i), configuration);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Logs.logError("Failed to read the item configs");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        } finally {
+            executor.shutdownNow();
+        }
+        return configs;
+    }
+
+    public Map<File, Map<String, ItemBuilder>> parseItemConfig(Map<File, YamlConfiguration> itemConfigs) {
         Map<File, Map<String, ItemBuilder>> parseMap = new LinkedHashMap<>();
         ItemBuilder errorItem = new ItemParser(Settings.ERROR_ITEM.toConfigSection()).buildItem();
-        for (File file : getItemFiles()) parseMap.put(file, parseItemConfig(file, errorItem));
+        for (Map.Entry<File, YamlConfiguration> entry : itemConfigs.entrySet())
+            parseMap.put(entry.getKey(), parseItemConfig(entry.getKey(), entry.getValue(), errorItem));
         return parseMap;
     }
 
-    public void assignAllUsedModelDatas() {
+    public void assignAllUsedModelDatas(Map<File, YamlConfiguration> itemConfigs) {
         Map<Material, Map<Integer, String>> assignedModelDatas = new HashMap<>();
-        for (File file : getItemFiles()) {
-            if (!file.exists()) continue;
-            YamlConfiguration configuration = OraxenYaml.loadConfiguration(file);
+        for (Map.Entry<File, YamlConfiguration> entry : itemConfigs.entrySet()) {
+            File file = entry.getKey();
+            YamlConfiguration configuration = entry.getValue();
             boolean fileChanged = false;
 
             for (String key : configuration.getKeys(false)) {
@@ -282,10 +319,8 @@ public class ConfigsManager {
         }
     }
 
-    public void parseAllItemTemplates() {
-        for (File file : getItemFiles()) {
-            if (file == null || !file.exists()) continue;
-            YamlConfiguration configuration = OraxenYaml.loadConfiguration(file);
+    public void parseAllItemTemplates(Map<File, YamlConfiguration> itemConfigs) {
+        for (YamlConfiguration configuration : itemConfigs.values()) {
             for (String key : configuration.getKeys(false)) {
                 ConfigurationSection itemSection = configuration.getConfigurationSection(key);
                 if (itemSection != null && itemSection.isBoolean("template")) ItemTemplate.register(itemSection);
@@ -301,8 +336,7 @@ public class ConfigsManager {
         return model;
     }
 
-    public Map<String, ItemBuilder> parseItemConfig(File itemFile, ItemBuilder errorItem) {
-        YamlConfiguration config = OraxenYaml.loadConfiguration(itemFile);
+    public Map<String, ItemBuilder> parseItemConfig(File itemFile, YamlConfiguration config, ItemBuilder errorItem) {
         Map<String, ItemParser> parseMap = new LinkedHashMap<>();
 
         for (String itemKey : config.getKeys(false)) {
@@ -349,11 +383,6 @@ public class ConfigsManager {
         return map;
     }
 
-    private List<File> getItemFiles() {
-        if (itemsFolder == null || !itemsFolder.exists()) return new ArrayList<>();
-        return FileUtils.listFiles(itemsFolder, new String[]{"yml"}, true).stream().filter(OraxenYaml::isValidYaml).sorted().toList();
-    }
-
     private List<File> getGlyphFiles() {
         if (glyphsFolder == null || !glyphsFolder.exists()) return new ArrayList<>();
         return FileUtils.listFiles(glyphsFolder, new String[]{"yml"}, true).stream().filter(OraxenYaml::isValidYaml).sorted().toList();
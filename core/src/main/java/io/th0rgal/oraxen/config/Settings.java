@@ -30,12 +30,14 @@ public enum Settings {
     WORLDEDIT_NOTEBLOCKS("WorldEdit.noteblock_mechanic"),
     WORLDEDIT_STRINGBLOCKS("WorldEdit.stringblock_mechanic"),
     WORLDEDIT_FURNITURE("WorldEdit.furniture_mechanic"),
+    WORLDEDIT_TICK_BUDGET("WorldEdit.tick_budget"),
 
     // Glyphs
     GLYPH_HANDLER("Glyphs.glyph_handler"),
     SHOW_PERMISSION_EMOJIS("Glyphs.emoji_list_permission_only"),
     UNICODE_COMPLETIONS("Glyphs.unicode_completions"),
     GLYPH_HOVER_TEXT("Glyphs.chat_hover_text"),
+    GLYPH_COMPONENT_CACHE_SIZE("Glyphs.component_cache_size"),
 
 
     // Chat
@@ -76,6 +78,7 @@ public enum Settings {
     UPDATE_FURNITURE("FurnitureUpdater.update_furniture"),
     UPDATE_FURNITURE_ON_RELOAD("FurnitureUpdater.update_on_reload"),
     UPDATE_FURNITURE_ON_LOAD("FurnitureUpdater.update_on_load"),
+    UPDATE_FURNITURE_TICK_BUDGET("FurnitureUpdater.update_on_reload_tick_budget"),
     EXPERIMENTAL_FURNITURE_TYPE_UPDATE("FurnitureUpdater.experimental_furniture_type_update"),
     EXPERIMENTAL_FIX_BROKEN_FURNITURE("FurnitureUpdater.experimental_fix_broken_furniture"),
 
@@ -101,6 +104,7 @@ public enum Settings {
     ATLAS_GENERATION_TYPE("Pack.generation.atlas.type"),
     GENERATE_MODEL_BASED_ON_TEXTURE_PATH("Pack.generation.auto_generated_models_follow_texture_path"),
     COMPRESSION("Pack.generation.compression"),
+    INCREMENTAL_PACK_BUILD("Pack.generation.incremental_build"),
     PROTECTION("Pack.generation.protection"),
     COMMENT("Pack.generation.comment"),
     MERGE_DUPLICATE_FONTS("Pack.import.merge_duplicate_fonts"),
@@ -154,12 +158,13 @@ public enum Settings {
     }
 
     public Object getValue() {
-        return OraxenPlugin.get().getConfigsManager().getSettings().get(path);
+        return SettingsSnapshot.get().getValue(this);
     }
     public void setValue(Object value) { setValue(value, true); }
     public void setValue(Object value, boolean save) {
         YamlConfiguration settingFile = OraxenPlugin.get().getConfigsManager().getSettings();
         settingFile.set(path, value);
+        SettingsSnapshot.compile(settingFile);
         try {
             if (save) settingFile.save(OraxenPlugin.get().getDataFolder().toPath().resolve("settings.yml").toFile());
         } catch (Exception e) {
@@ -169,7 +174,7 @@ public enum Settings {
 
     @Override
     public String toString() {
-        return (String) getValue();
+        return SettingsSnapshot.get().getString(this);
     }
 
     public Component toComponent() {
@@ -177,15 +182,33 @@ public enum Settings {
     }
 
     public Boolean toBool() {
-        return (Boolean) getValue();
+        return SettingsSnapshot.get().getBoolean(this);
     }
 
+    /**
+     * @return the value as an int, or the given default if it is not a number
+     */
+    public int toInt(int defaultValue) {
+        Integer value = SettingsSnapshot.get().getInt(this);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @return an unmodifiable list, copy it before changing it
+     */
     public List<String> toStringList() {
-        return OraxenPlugin.get().getConfigsManager().getSettings().getStringList(path);
+        return SettingsSnapshot.get().getStringList(this);
     }
 
     public ConfigurationSection toConfigSection() {
-        return OraxenPlugin.get().getConfigsManager().getSettings().getConfigurationSection(path);
+        return SettingsSnapshot.get().getConfigSection(this);
+    }
+
+    /**
+     * Compiles the values of settings.yml again, needed after it was modified without {@link #setValue(Object)}
+     */
+    public static void reload() {
+        SettingsSnapshot.compile(OraxenPlugin.get().getConfigsManager().getSettings());
     }
 
 }
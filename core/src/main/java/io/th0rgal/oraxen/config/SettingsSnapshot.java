@@ -0,0 +1,98 @@
+package io.th0rgal.oraxen.config;
+
+import io.th0rgal.oraxen.OraxenPlugin;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every {@link Settings} value resolved once from settings.yml, indexed by ordinal so lookups are plain array reads.
+ * Values are stored by type, so reading a boolean, int, String or string list neither casts nor converts.
+ * A snapshot is never modified, changes to settings.yml compile a new one which replaces the current one.
+ * Sections are detached from settings.yml and handed out as copies, as ConfigurationSections cannot be made read-only.
+ */
+final class SettingsSnapshot {
+
+    private static final Settings[] SETTINGS = Settings.values();
+    private static volatile SettingsSnapshot current;
+
+    private final Object[] values = new Object[SETTINGS.length];
+    private final Boolean[] booleans = new Boolean[SETTINGS.length];
+    private final Integer[] integers = new Integer[SETTINGS.length];
+    private final String[] strings = new String[SETTINGS.length];
+    private final List<String>[] stringLists;
+
+    @SuppressWarnings("unchecked")
+    private SettingsSnapshot(YamlConfiguration settings) {
+        stringLists = new List[SETTINGS.length];
+        for (Settings setting : SETTINGS) {
+            int index = setting.ordinal();
+            Object value = settings.get(setting.getPath());
+            values[index] = value instanceof ConfigurationSection section ? copy(section) : immutable(value);
+            booleans[index] = value instanceof Boolean bool ? bool : null;
+            integers[index] = value instanceof Number number ? number.intValue() : null;
+            strings[index] = value instanceof String string ? string : null;
+            stringLists[index] = List.copyOf(settings.getStringList(setting.getPath()));
+        }
+    }
+
+    static SettingsSnapshot get() {
+        SettingsSnapshot snapshot = current;
+        return snapshot != null ? snapshot : compile(OraxenPlugin.get().getConfigsManager().getSettings());
+    }
+
+    static SettingsSnapshot compile(YamlConfiguration settings) {
+        SettingsSnapshot snapshot = new SettingsSnapshot(settings);
+        current = snapshot;
+        return snapshot;
+    }
+
+    Object getValue(Settings setting) {
+        Object value = values[setting.ordinal()];
+        return value instanceof ConfigurationSection section ? copy(section) : value;
+    }
+
+    Boolean getBoolean(Settings setting) {
+        return booleans[setting.ordinal()];
+    }
+
+    Integer getInt(Settings setting) {
+        return integers[setting.ordinal()];
+    }
+
+    String getString(Settings setting) {
+        return strings[setting.ordinal()];
+    }
+
+    List<String> getStringList(Settings setting) {
+        return stringLists[setting.ordinal()];
+    }
+
+    ConfigurationSection getConfigSection(Settings setting) {
+        return values[setting.ordinal()] instanceof ConfigurationSection section ? copy(section) : null;
+    }
+
+    /**
+     * Deep copy of a section that shares nothing mutable with the original, under the same name as callers like ItemParser read it
+     */
+    private static ConfigurationSection copy(ConfigurationSection section) {
+        ConfigurationSection copy = new MemoryConfiguration().createSection(section.getName());
+        for (Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+            if (entry.getValue() instanceof ConfigurationSection) copy.createSection(entry.getKey());
+            else copy.set(entry.getKey(), immutable(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object immutable(Object value) {
+        if (!(value instanceof List<?> list)) return value;
+        List<Object> copy = new ArrayList<>(list.size());
+        for (Object element : list) copy.add(immutable(element));
+        return Collections.unmodifiableList(copy);
+    }
+}
@@ -36,6 +36,7 @@ public class FontManager {
     private final Map<Character, String> reverse;
     private final FontEvents fontEvents;
     private final Set<Font> fonts;
+    private final GlyphMatcher glyphMatcher;
     private boolean useNmsGlyphs;
 
     public FontManager(final ConfigsManager configsManager) {
@@ -59,6 +60,7 @@ public class FontManager {
         fontEvents = new FontEvents(this);
         fonts = new HashSet<>();
         loadGlyphs(configsManager.parseGlyphConfigs());
+        glyphMatcher = new GlyphMatcher(glyphMap.values());
         if (fontConfiguration.isConfigurationSection("fonts"))
             loadFonts(fontConfiguration.getConfigurationSection("fonts"));
 
@@ -161,6 +163,13 @@ public class FontManager {
         return glyphMap.values();
     }
 
+    /**
+     * @return the matcher used to rewrite glyph-tags, placeholders and raw glyphs in components
+     */
+    public GlyphMatcher getGlyphMatcher() {
+        return glyphMatcher;
+    }
+
     public final Collection<Glyph> getEmojis() {
         return glyphMap.values().stream().filter(Glyph::isEmoji).toList();
     }
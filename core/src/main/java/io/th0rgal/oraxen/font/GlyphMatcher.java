@@ -0,0 +1,240 @@
+package io.th0rgal.oraxen.font;
+
+import io.th0rgal.oraxen.utils.AdventureUtils;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trie over every glyph-tag, placeholder and raw glyph-character, compiled once per {@link FontManager}.
+ * Rewrites a component in a single traversal instead of running a regex and a replaceText pass per glyph.
+ */
+public class GlyphMatcher {
+
+    private static final Key RANDOM_FONT = Key.key("random");
+    private static final String[] TAG_PREFIXES = {"<glyph:", "<g:"};
+    private static final String[] TAG_SUFFIXES = {":colorable", ":c"};
+
+    private final Node root = new Node();
+    // The first character of every key, tested before the trie so scanning text does not box each character
+    private final BitSet firstChars = new BitSet(Character.MAX_VALUE + 1);
+    private final Map<String, Component> escapedTags = new ConcurrentHashMap<>();
+    private final boolean hasPermissionGlyphs;
+    private final List<String> permissions;
+
+    public GlyphMatcher(Collection<Glyph> glyphs) {
+        boolean permissionGlyphs = false;
+        Set<String> glyphPermissions = new LinkedHashSet<>();
+        for (Glyph glyph : glyphs) {
+            if (glyph.getCharacter().isBlank()) continue;
+            for (String prefix : TAG_PREFIXES)
+                insert(prefix + glyph.getName(), glyph, MatchType.TAG);
+            for (String placeholder : glyph.getPlaceholders())
+                if (!placeholder.isEmpty()) insert(placeholder, glyph, MatchType.PLACEHOLDER);
+            insert(glyph.getCharacter(), glyph, MatchType.CHARACTER);
+            if (!glyph.getPermission().isEmpty()) {
+                permissionGlyphs = true;
+                glyphPermissions.add(glyph.getPermission());
+            }
+        }
+        hasPermissionGlyphs = permissionGlyphs;
+        permissions = List.copyOf(glyphPermissions);
+    }
+
+    private void insert(String key, Glyph glyph, MatchType type) {
+        firstChars.set(key.charAt(0));
+        Node node = root;
+        for (int i = 0; i < key.length(); i++)
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        // Tags and placeholders take priority over a raw character sharing the same key
+        if (node.glyph == null || node.type == MatchType.CHARACTER) {
+            node.glyph = glyph;
+            node.type = type;
+        }
+    }
+
+    /**
+     * @return whether the string contains anything the matcher could rewrite
+     */
+    public boolean containsGlyph(@NotNull String text) {
+        for (int i = 0; i < text.length(); i++)
+            if (firstChars.get(text.charAt(i)) && match(text, i) != null) return true;
+        return false;
+    }
+
+    /**
+     * @return a key identifying which glyph-permissions the player has,
+     * players with the same fingerprint get the same result from {@link #escape(Component, Player)}
+     */
+    public String permissionFingerprint(@NotNull Player player) {
+        if (permissions.isEmpty()) return "";
+        BitSet granted = new BitSet(permissions.size());
+        for (int i = 0; i < permissions.size(); i++)
+            if (player.hasPermission(permissions.get(i))) granted.set(i);
+        return HexFormat.of().formatHex(granted.toByteArray());
+    }
+
+    /**
+     * Replaces glyph-tags and placeholders with their glyph.
+     * @param unescape whether escaped tags (\<glyph:name>) should have their backslash removed
+     */
+    public Component transform(Component component, boolean unescape) {
+        return rewrite(component, (match, escaped) -> {
+            if (match.type == MatchType.CHARACTER) return null;
+            if (escaped) return unescape ? Component.text(match.text) : null;
+            return match.glyph.getGlyphComponent();
+        });
+    }
+
+    /**
+     * Replaces raw usage of glyphs the player lacks permission for with an unrenderable font
+     * and escapes their glyph-tags and placeholders
+     */
+    public Component escape(Component component, @NotNull Player player) {
+        if (!hasPermissionGlyphs) return component;
+        Map<Glyph, Boolean> permissions = new HashMap<>();
+        return rewrite(component, (match, escaped) -> {
+            if (escaped || permissions.computeIfAbsent(match.glyph, g -> g.hasPermission(player))) return null;
+            if (match.type == MatchType.CHARACTER) return match.glyph.getGlyphComponent().font(RANDOM_FONT);
+            return escapedTags.computeIfAbsent(match.text, text -> AdventureUtils.MINI_MESSAGE.deserialize("\\" + text));
+        });
+    }
+
+    private Component rewrite(Component component, Replacer replacer) {
+        Component result = component;
+        if (component instanceof TranslatableComponent translatable && !translatable.arguments().isEmpty()) {
+            List<TranslationArgument> arguments = new ArrayList<>(translatable.arguments().size());
+            boolean changed = false;
+            for (TranslationArgument argument : translatable.arguments()) {
+                if (argument.value() instanceof Component argumentComponent) {
+                    Component rewritten = rewrite(argumentComponent, replacer);
+                    changed |= rewritten != argumentComponent;
+                    arguments.add(TranslationArgument.component(rewritten));
+                } else arguments.add(argument);
+            }
+            if (changed) result = translatable.arguments(arguments);
+        }
+
+        // Children are handled before the content, so inserted glyphs are never matched again
+        List<Component> children = result.children();
+        List<Component> newChildren = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component rewritten = rewrite(child, replacer);
+            if (rewritten != child && newChildren == null) newChildren = new ArrayList<>(children);
+            if (newChildren != null) newChildren.set(i, rewritten);
+        }
+        if (newChildren != null) result = result.children(newChildren);
+
+        return result instanceof TextComponent text ? rewriteText(text, replacer) : result;
+    }
+
+    private Component rewriteText(TextComponent component, Replacer replacer) {
+        String content = component.content();
+        List<Component> parts = null;
+        String prefix = null;
+        int last = 0;
+
+        for (int i = 0; i < content.length(); i++) {
+            if (!firstChars.get(content.charAt(i))) continue;
+            Match match = match(content, i);
+            if (match == null) continue;
+
+            boolean escaped = match.type != MatchType.CHARACTER && i > 0 && content.charAt(i - 1) == '\\';
+            Component replacement = replacer.replace(match, escaped);
+            if (replacement == null) continue;
+
+            int start = escaped ? i - 1 : i;
+            if (parts == null) {
+                parts = new ArrayList<>();
+                prefix = content.substring(0, start);
+            } else if (start > last) parts.add(Component.text(content.substring(last, start)));
+            parts.add(replacement);
+            last = i + match.text.length();
+            i = last - 1;
+        }
+
+        if (parts == null) return component;
+        if (last < content.length()) parts.add(Component.text(content.substring(last)));
+        // Mirrors Component#replaceText, the remaining parts inherit the style of the original component
+        parts.addAll(component.children());
+        return component.content(prefix).children(parts);
+    }
+
+    /**
+     * @return the longest valid match starting at the given index
+     */
+    @Nullable
+    private Match match(String text, int start) {
+        Node node = root;
+        Match match = null;
+        for (int i = start; i < text.length(); i++) {
+            node = node.children.get(text.charAt(i));
+            if (node == null) break;
+            if (node.glyph == null) continue;
+
+            int end = i + 1;
+            if (node.type == MatchType.TAG) {
+                end = tagEnd(text, end);
+                if (end < 0) continue;
+            }
+            if (match == null || end - start > match.text.length())
+                match = new Match(node.glyph, node.type, text.substring(start, end));
+        }
+        return match;
+    }
+
+    /**
+     * Consumes the optional :c/:colorable suffixes and the closing bracket of a glyph-tag
+     * @return the index after the closing bracket, or -1 if this is not a complete tag
+     */
+    private static int tagEnd(String text, int index) {
+        outer:
+        while (index < text.length()) {
+            if (text.charAt(index) == '>') return index + 1;
+            for (String suffix : TAG_SUFFIXES) {
+                if (text.startsWith(suffix, index)) {
+                    index += suffix.length();
+                    continue outer;
+                }
+            }
+            return -1;
+        }
+        return -1;
+    }
+
+    private enum MatchType {
+        TAG, PLACEHOLDER, CHARACTER
+    }
+
+    private record Match(Glyph glyph, MatchType type, String text) {
+    }
+
+    @FunctionalInterface
+    private interface Replacer {
+        @Nullable
+        Component replace(Match match, boolean escaped);
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Glyph glyph;
+        private MatchType type;
+    }
+}
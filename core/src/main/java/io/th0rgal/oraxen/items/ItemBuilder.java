@@ -2,6 +2,7 @@ package io.th0rgal.oraxen.items;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.hash.Hashing;
 import com.jeff_media.morepersistentdatatypes.DataType;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenItems;
@@ -41,7 +42,9 @@ import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 @SuppressWarnings("ALL")
@@ -49,6 +52,7 @@ public class ItemBuilder {
 
     public static final NamespacedKey UNSTACKABLE_KEY = new NamespacedKey(OraxenPlugin.get(), "unstackable");
     public static final NamespacedKey ORIGINAL_NAME_KEY = new NamespacedKey(OraxenPlugin.get(), "original_name");
+    public static final NamespacedKey STAMP_KEY = new NamespacedKey(OraxenPlugin.get(), "stamp");
 
     private final ItemStack itemStack;
     private final Map<PersistentDataSpace, Object> persistentDataMap = new HashMap<>();
@@ -75,6 +79,7 @@ public class ItemBuilder {
     private Integer customModelData;
     private List<String> lore;
     private ItemStack finalItemStack;
+    private String stamp;
 
     // 1.20.5+ properties
     @Nullable
@@ -886,6 +891,7 @@ public class ItemBuilder {
 
         itemStack.setItemMeta(itemMeta);
 
+        stamp = null;
         // Add null check for NMSHandler
         NMSHandler handler = NMSHandlers.getHandler();
         if (handler != null) {
@@ -903,34 +909,34 @@ public class ItemBuilder {
 
     public void save() {
         regen();
-        OraxenItems.getMap().entrySet().stream().filter(entry -> entry.getValue().containsValue(this)).findFirst()
-                .ifPresent(entry -> {
-                    YamlConfiguration yamlConfiguration = OraxenYaml.loadConfiguration(entry.getKey());
-                    String itemId = OraxenItems.getIdByItem(this);
-                    if (this.hasColor()) {
-                        String color = this.color.getRed() + "," + this.color.getGreen() + "," + this.color.getBlue();
-                        yamlConfiguration.set(itemId + ".color", color);
-                    }
-                    if (this.hasTrimPattern()) {
-                        String trimPattern = this.getTrimPatternKey().asString();
-                        yamlConfiguration.set(itemId + ".trim_pattern", trimPattern);
-                    }
-                    if (!getItemFlags().isEmpty())
-                        yamlConfiguration.set(itemId + ".ItemFlags",
-                                this.itemFlags.stream().map(ItemFlag::name).toList());
-                    if (hasEquippableComponent()) {
-                        yamlConfiguration.set(itemId + ".Components.equippable.slot",
-                                this.equippableComponent.getSlot().name());
-                        yamlConfiguration.set(itemId + ".Components.equippable.model",
-                                this.equippableComponent.getModel().toString());
-                    }
-                    try {
-                        yamlConfiguration.save(entry.getKey());
-                    } catch (IOException e) {
-                        if (Settings.DEBUG.toBool())
-                            e.printStackTrace();
-                    }
-                });
+        String itemId = OraxenItems.getIdByItem(this);
+        File file = OraxenItems.getFileById(itemId);
+        if (file == null || OraxenItems.getItemById(itemId) != this) return;
+
+        YamlConfiguration yamlConfiguration = OraxenYaml.loadConfiguration(file);
+        if (this.hasColor()) {
+            String color = this.color.getRed() + "," + this.color.getGreen() + "," + this.color.getBlue();
+            yamlConfiguration.set(itemId + ".color", color);
+        }
+        if (this.hasTrimPattern()) {
+            String trimPattern = this.getTrimPatternKey().asString();
+            yamlConfiguration.set(itemId + ".trim_pattern", trimPattern);
+        }
+        if (!getItemFlags().isEmpty())
+            yamlConfiguration.set(itemId + ".ItemFlags",
+                    this.itemFlags.stream().map(ItemFlag::name).toList());
+        if (hasEquippableComponent()) {
+            yamlConfiguration.set(itemId + ".Components.equippable.slot",
+                    this.equippableComponent.getSlot().name());
+            yamlConfiguration.set(itemId + ".Components.equippable.model",
+                    this.equippableComponent.getModel().toString());
+        }
+        try {
+            yamlConfiguration.save(file);
+        } catch (IOException e) {
+            if (Settings.DEBUG.toBool())
+                e.printStackTrace();
+        }
     }
 
     private void handleVariousMeta(ItemMeta itemMeta) {
@@ -1024,12 +1030,48 @@ public class ItemBuilder {
     public ItemStack build() {
         if (finalItemStack == null)
             regen();
+        if (stamp == null)
+            stamp();
         if (unstackable)
             return handleUnstackable(finalItemStack);
         else
             return finalItemStack.clone();
     }
 
+    /**
+     * @return a hash of everything the built item is made of, stored on it under {@link #STAMP_KEY}
+     * so {@link ItemUpdater} can skip items that were built from the current definition
+     */
+    public String getStamp() {
+        if (finalItemStack == null)
+            regen();
+        if (stamp == null)
+            stamp();
+        return stamp;
+    }
+
+    private void stamp() {
+        ItemMeta meta = finalItemStack.getItemMeta();
+        if (meta == null) {
+            stamp = "";
+            return;
+        }
+        meta.getPersistentDataContainer().remove(STAMP_KEY);
+        finalItemStack.setItemMeta(meta);
+
+        // The plugin- and server-version change how items are built and updated, so they are part of the stamp
+        YamlConfiguration content = new YamlConfiguration();
+        content.set("item", finalItemStack);
+        content.set("oraxen", OraxenPlugin.get().getDescription().getVersion());
+        content.set("server", Bukkit.getBukkitVersion());
+        content.set("override_lore", Settings.OVERRIDE_ITEM_LORE.toBool());
+        content.set("override_renamed", Settings.OVERRIDE_RENAMED_ITEMS.toBool());
+        stamp = Hashing.murmur3_128().hashString(content.saveToString(), StandardCharsets.UTF_8).toString();
+
+        meta.getPersistentDataContainer().set(STAMP_KEY, PersistentDataType.STRING, stamp);
+        finalItemStack.setItemMeta(meta);
+    }
+
     private ItemStack handleUnstackable(ItemStack item) {
         ItemMeta meta = item.getItemMeta();
         if (meta == null || VersionUtil.atOrAbove("1.20.5"))
@@ -0,0 +1,96 @@
+package io.th0rgal.oraxen.items;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the loaded items, built once per load so lookups by ID are constant time.
+ * A reload builds a new registry and swaps it in, readers never see a partially loaded one.
+ */
+public final class ItemRegistry {
+
+    public static final ItemRegistry EMPTY = new ItemRegistry(Map.of());
+
+    private final Map<File, Map<String, ItemBuilder>> itemsByFile;
+    private final Map<String, ItemBuilder> itemsById;
+    private final Map<String, File> filesById;
+    private final String[] names;
+    private final String[] commandNames;
+
+    public ItemRegistry(Map<File, Map<String, ItemBuilder>> parsedItems) {
+        Map<File, Map<String, ItemBuilder>> byFile = new LinkedHashMap<>();
+        Map<String, ItemBuilder> byId = new LinkedHashMap<>();
+        Map<String, File> files = new LinkedHashMap<>();
+        for (Map.Entry<File, Map<String, ItemBuilder>> entry : parsedItems.entrySet()) {
+            byFile.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(entry.getValue())));
+            // When an ID is defined in several files, the first one wins
+            for (Map.Entry<String, ItemBuilder> item : entry.getValue().entrySet()) {
+                if (byId.containsKey(item.getKey())) continue;
+                byId.put(item.getKey(), item.getValue());
+                files.put(item.getKey(), entry.getKey());
+            }
+        }
+
+        List<String> visibleNames = new ArrayList<>();
+        for (Map.Entry<String, ItemBuilder> item : byId.entrySet()) {
+            ItemBuilder builder = item.getValue();
+            if (builder != null && builder.hasOraxenMeta() && !builder.getOraxenMeta().isExcludedFromCommands())
+                visibleNames.add(item.getKey());
+        }
+
+        this.itemsByFile = Collections.unmodifiableMap(byFile);
+        this.itemsById = Collections.unmodifiableMap(byId);
+        this.filesById = Collections.unmodifiableMap(files);
+        this.names = byId.keySet().toArray(String[]::new);
+        this.commandNames = visibleNames.toArray(String[]::new);
+    }
+
+    public boolean contains(@Nullable String itemId) {
+        return itemId != null && itemsById.containsKey(itemId);
+    }
+
+    @Nullable
+    public ItemBuilder get(@Nullable String itemId) {
+        return itemId != null ? itemsById.get(itemId) : null;
+    }
+
+    /**
+     * @return the item-config file the item is defined in
+     */
+    @Nullable
+    public File getFile(@Nullable String itemId) {
+        return itemId != null ? filesById.get(itemId) : null;
+    }
+
+    public Map<File, Map<String, ItemBuilder>> getItemsByFile() {
+        return itemsByFile;
+    }
+
+    public Map<String, ItemBuilder> getItemsById() {
+        return itemsById;
+    }
+
+    /**
+     * @return a copy of every item-ID
+     */
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    /**
+     * @return a copy of every item-ID that is not excluded from commands
+     */
+    public String[] getCommandNames() {
+        return commandNames.clone();
+    }
+
+    public int size() {
+        return itemsById.size();
+    }
+}
@@ -31,10 +31,12 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.*;
 import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 
 import java.util.*;
 
 import static io.th0rgal.oraxen.items.ItemBuilder.ORIGINAL_NAME_KEY;
+import static io.th0rgal.oraxen.items.ItemBuilder.STAMP_KEY;
 import static io.th0rgal.oraxen.items.ItemBuilder.UNSTACKABLE_KEY;
 
 public class ItemUpdater implements Listener {
@@ -147,17 +149,25 @@ public class ItemUpdater implements Listener {
     public static ItemStack updateItem(ItemStack oldItem) {
         String id = OraxenItems.getIdByItem(oldItem);
         if (id == null) return oldItem;
+        ItemBuilder newItemBuilder = OraxenItems.getItemById(id);
 
         // Oraxens Inventory adds a dumb PDC entry to items, this will remove them
         // Done here over [ItemsView] as this method is called anyway and supports old items
-        ItemUtils.editItemMeta(oldItem, itemMeta -> {
-            itemMeta.getPersistentDataContainer().remove(IF_UUID);
-            itemMeta.getPersistentDataContainer().remove(MF_GUI);
-        });
+        ItemMeta oldItemMeta = oldItem.getItemMeta();
+        if (oldItemMeta != null) {
+            PersistentDataContainer oldItemPdc = oldItemMeta.getPersistentDataContainer();
+            if (oldItemPdc.has(IF_UUID) || oldItemPdc.has(MF_GUI)) {
+                oldItemPdc.remove(IF_UUID);
+                oldItemPdc.remove(MF_GUI);
+                oldItem.setItemMeta(oldItemMeta);
+            }
+        }
 
-        Optional<ItemBuilder> optionalBuilder = OraxenItems.getOptionalItemById(id);
-        if (optionalBuilder.isEmpty() || optionalBuilder.get().getOraxenMeta().isNoUpdate()) return oldItem;
-        ItemBuilder newItemBuilder = optionalBuilder.get();
+        if (newItemBuilder == null || newItemBuilder.getOraxenMeta().isNoUpdate()) return oldItem;
+        // Items built from the current definition, or already updated to it, carry its stamp
+        String stamp = newItemBuilder.getStamp();
+        if (oldItemMeta != null && !stamp.isEmpty() && stamp.equals(oldItemMeta.getPersistentDataContainer().get(STAMP_KEY, PersistentDataType.STRING)))
+            return oldItem;
 
         ItemStack newItem = NMSHandlers.getHandler() != null ? NMSHandlers.getHandler().copyItemNBTTags(oldItem, newItemBuilder.build()) : newItemBuilder.build();
         newItem.setAmount(oldItem.getAmount());
@@ -312,6 +322,9 @@ public class ItemUpdater implements Listener {
             // Also remove it on 1.20.5+ due to maxStackSize component
             if (VersionUtil.atOrAbove("1.20.5") || !newItemBuilder.isUnstackable()) itemPdc.remove(UNSTACKABLE_KEY);
             else itemPdc.set(UNSTACKABLE_KEY, DataType.UUID, UUID.randomUUID());
+
+            // The transferred PDC holds the stamp of the definition the old item was built from
+            if (!stamp.isEmpty()) itemPdc.set(STAMP_KEY, PersistentDataType.STRING, stamp);
         });
 
         Optional.ofNullable(NMSHandlers.getHandler()).ifPresent(nmsHandler ->
@@ -1,6 +1,5 @@
 package io.th0rgal.oraxen.mechanics;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 
@@ -12,15 +11,18 @@ public abstract class MechanicFactory {
 
     private final Map<String, Mechanic> mechanicByItem = new HashMap<>();
     private final String mechanicId;
+    private final int mechanicIndex;
     private final ConfigurationSection section;
 
     protected MechanicFactory(ConfigurationSection section) {
         this.section = section;
         this.mechanicId = section.getName();
+        this.mechanicIndex = MechanicsManager.getMechanicIndex(mechanicId);
     }
 
     protected MechanicFactory(String mechanicId) {
         this.mechanicId = mechanicId;
+        this.mechanicIndex = MechanicsManager.getMechanicIndex(mechanicId);
         this.section = null;
     }
 
@@ -32,6 +34,7 @@ public abstract class MechanicFactory {
 
     protected void addToImplemented(Mechanic mechanic) {
         mechanicByItem.put(mechanic.getItemID(), mechanic);
+        ResolvedItem.invalidate();
     }
 
     public Set<String> getItems() {
@@ -43,7 +46,7 @@ public abstract class MechanicFactory {
     }
 
     public boolean isNotImplementedIn(ItemStack itemStack) {
-        return !mechanicByItem.containsKey(OraxenItems.getIdByItem(itemStack));
+        return !ResolvedItem.of(itemStack).hasMechanic(this);
     }
 
     public Mechanic getMechanic(String itemID) {
@@ -51,11 +54,16 @@ public abstract class MechanicFactory {
     }
 
     public Mechanic getMechanic(ItemStack itemStack) {
-        return mechanicByItem.get(OraxenItems.getIdByItem(itemStack));
+        ResolvedItem item = ResolvedItem.of(itemStack);
+        return item.hasMechanic(this) ? mechanicByItem.get(item.getItemId()) : null;
     }
 
     public String getMechanicID() {
         return mechanicId;
     }
 
+    int getMechanicIndex() {
+        return mechanicIndex;
+    }
+
 }
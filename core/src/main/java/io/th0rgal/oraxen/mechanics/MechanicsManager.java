@@ -54,6 +54,7 @@ public class MechanicsManager {
     private static final Map<String, MechanicFactory> FACTORIES_BY_MECHANIC_ID = new HashMap<>();
     public static final Map<String, List<Integer>> MECHANIC_TASKS = new HashMap<>();
     private static final Map<String, List<Listener>> MECHANICS_LISTENERS = new HashMap<>();
+    private static final Map<String, Integer> MECHANIC_INDEXES = new HashMap<>();
 
     public static void registerNativeMechanics() {
         // misc
@@ -115,10 +116,12 @@ public class MechanicsManager {
      */
     public static void registerMechanicFactory(String mechanicId, MechanicFactory factory, boolean enabled) {
         if (enabled) FACTORIES_BY_MECHANIC_ID.put(mechanicId, factory);
+        ResolvedItem.invalidate();
     }
 
     public static void unregisterMechanicFactory(String mechanicId) {
         FACTORIES_BY_MECHANIC_ID.remove(mechanicId);
+        ResolvedItem.invalidate();
         unloadListeners(mechanicId);
         unregisterTasks(mechanicId);
     }
@@ -142,6 +145,7 @@ public class MechanicsManager {
         ConfigurationSection factorySection = mechanicsConfig.getConfigurationSection(mechanicId);
         if (factorySection != null && factorySection.getBoolean("enabled"))
             FACTORIES_BY_MECHANIC_ID.put(mechanicId, constructor.create(factorySection));
+        ResolvedItem.invalidate();
 
         try {
             if (updated) mechanicsConfig.save(mechanicsEntry.getKey());
@@ -209,6 +213,15 @@ public class MechanicsManager {
         return FACTORIES_BY_MECHANIC_ID.get(mechanicID);
     }
 
+    /**
+     * @return a small index identifying the mechanic, stable across reloads so {@link ResolvedItem} can keep it in a bitset
+     */
+    public static int getMechanicIndex(final String mechanicID) {
+        synchronized (MECHANIC_INDEXES) {
+            return MECHANIC_INDEXES.computeIfAbsent(mechanicID, id -> MECHANIC_INDEXES.size());
+        }
+    }
+
     @FunctionalInterface
     public interface FactoryConstructor {
         MechanicFactory create(ConfigurationSection section);
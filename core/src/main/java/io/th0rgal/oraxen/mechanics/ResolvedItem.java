@@ -0,0 +1,78 @@
+package io.th0rgal.oraxen.mechanics;
+
+import io.th0rgal.oraxen.api.OraxenItems;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Oraxen-ID of an ItemStack together with the mechanics it implements.
+ * The ID is read straight from the NMS item without cloning its ItemMeta, so it is read again for every lookup
+ * rather than cached per ItemStack, which listeners may change in between.
+ * Which mechanics an item-ID implements is remembered until the mechanics are reloaded.
+ */
+public final class ResolvedItem {
+
+    private static final ResolvedItem NONE = new ResolvedItem(null, null);
+    private static volatile Map<String, MechanicBits> bitsById = new ConcurrentHashMap<>();
+
+    @Nullable
+    private final String itemId;
+    @Nullable
+    private final MechanicBits mechanics;
+
+    private ResolvedItem(@Nullable String itemId, @Nullable MechanicBits mechanics) {
+        this.itemId = itemId;
+        this.mechanics = mechanics;
+    }
+
+    public static ResolvedItem of(@Nullable ItemStack itemStack) {
+        if (itemStack == null || itemStack.getAmount() <= 0) return NONE;
+        String itemId = OraxenItems.getIdByItem(itemStack);
+        if (itemId == null) return NONE;
+        return new ResolvedItem(itemId, bitsById.computeIfAbsent(itemId, id -> new MechanicBits()));
+    }
+
+    /**
+     * Forgets which mechanics every item-ID implements, called whenever those might have changed
+     */
+    public static void invalidate() {
+        // Items are loaded off the main thread during reloads, so the map is replaced rather than cleared
+        if (!bitsById.isEmpty()) bitsById = new ConcurrentHashMap<>();
+    }
+
+    @Nullable
+    public String getItemId() {
+        return itemId;
+    }
+
+    public boolean isOraxenItem() {
+        return itemId != null;
+    }
+
+    public boolean hasMechanic(MechanicFactory factory) {
+        if (itemId == null || mechanics == null) return false;
+
+        int index = factory.getMechanicIndex();
+        // Folia resolves items on several region threads at once
+        synchronized (mechanics) {
+            if (!mechanics.known.get(index)) {
+                mechanics.known.set(index);
+                if (!factory.isNotImplementedIn(itemId)) mechanics.implemented.set(index);
+            }
+            return mechanics.implemented.get(index);
+        }
+    }
+
+    /**
+     * Which mechanics, by {@link MechanicsManager#getMechanicIndex(String)}, have been checked for an item-ID
+     * and which of those it implements
+     */
+    private static class MechanicBits {
+        private final BitSet known = new BitSet();
+        private final BitSet implemented = new BitSet();
+    }
+}
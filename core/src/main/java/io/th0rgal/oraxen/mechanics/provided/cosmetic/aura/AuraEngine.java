@@ -0,0 +1,90 @@
+package io.th0rgal.oraxen.mechanics.provided.cosmetic.aura;
+
+import io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.aura.Aura;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spawns the particles of every aura from a single task, once per tick.
+ * Particles are only sent to players within the view distance of a wearer, and players further away than half of it
+ * only get every other emission of an aura. Once the per-tick budget is spent, the remaining wearers are skipped
+ * and carried over, the next tick serves them first whether their aura is due then or not, so every wearer gets its turn.
+ */
+public class AuraEngine implements Runnable {
+
+    private final Set<AuraMechanic> mechanics = ConcurrentHashMap.newKeySet();
+    private final List<Location> particles = new ArrayList<>();
+    private final Set<Wearer> wearers = new LinkedHashSet<>();
+    private final List<Wearer> skipped = new ArrayList<>();
+    private final double viewDistanceSquared;
+    private final double detailDistanceSquared;
+    private final int maxParticlesPerTick;
+    private long tick = 0;
+
+    public AuraEngine(int viewDistance, int maxParticlesPerTick) {
+        this.viewDistanceSquared = (double) viewDistance * viewDistance;
+        this.detailDistanceSquared = viewDistanceSquared / 4;
+        this.maxParticlesPerTick = maxParticlesPerTick;
+    }
+
+    public void register(AuraMechanic mechanic) {
+        mechanics.add(mechanic);
+    }
+
+    public void unregister(AuraMechanic mechanic) {
+        mechanics.remove(mechanic);
+    }
+
+    @Override
+    public void run() {
+        tick++;
+        // Wearers skipped last tick go first, as long as they still wear the aura
+        for (Wearer wearer : skipped)
+            if (mechanics.contains(wearer.mechanic) && wearer.mechanic.players.contains(wearer.player)) wearers.add(wearer);
+        skipped.clear();
+        for (AuraMechanic mechanic : mechanics) {
+            Aura aura = mechanic.getAura();
+            if (aura == null || tick % aura.getDelay() != 0) continue;
+            for (Player wearer : mechanic.players)
+                wearers.add(new Wearer(mechanic, wearer));
+        }
+        if (wearers.isEmpty()) return;
+
+        int budget = maxParticlesPerTick;
+        for (Wearer wearer : wearers) {
+            Aura aura = wearer.mechanic.getAura();
+            if (aura == null) continue;
+            if (budget <= 0) skipped.add(wearer);
+            else budget -= spawnParticles(wearer.mechanic, aura, wearer.player, budget);
+        }
+        wearers.clear();
+    }
+
+    private int spawnParticles(AuraMechanic mechanic, Aura aura, Player wearer, int budget) {
+        if (!wearer.isOnline()) return 0;
+        Location origin = wearer.getLocation();
+        particles.clear();
+        aura.addParticles(origin, particles);
+        if (particles.isEmpty()) return 0;
+
+        // Distant viewers skip every other emission, which also thins auras made of a single particle
+        boolean detailOnly = (tick / aura.getDelay()) % 2 != 0;
+        int sent = 0;
+        for (Player viewer : wearer.getWorld().getPlayers()) {
+            double distanceSquared = viewer.getLocation().distanceSquared(origin);
+            if (distanceSquared > viewDistanceSquared || (detailOnly && distanceSquared > detailDistanceSquared)) continue;
+            for (int i = 0; i < particles.size() && sent < budget; i++, sent++)
+                viewer.spawnParticle(mechanic.particle, particles.get(i), aura.getParticleCount(), 0, 0, 0, aura.getParticleExtra());
+        }
+        return sent;
+    }
+
+    private record Wearer(AuraMechanic mechanic, Player player) {
+    }
+}
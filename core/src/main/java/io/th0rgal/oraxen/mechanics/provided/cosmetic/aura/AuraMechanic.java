@@ -10,8 +10,8 @@ import org.bukkit.Particle;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AuraMechanic extends Mechanic {
 
@@ -28,19 +28,23 @@ public class AuraMechanic extends Mechanic {
             case "helix" -> aura = new HelixAura(this);
             default -> aura = null;
         }
-        players = new HashSet<>();
+        players = ConcurrentHashMap.newKeySet();
+    }
+
+    public Aura getAura() {
+        return aura;
     }
 
     public void add(Player player) {
         players.add(player);
         if (players.size() == 1)
-            aura.start();
+            ((AuraMechanicFactory) getFactory()).getEngine().register(this);
     }
 
     public void remove(Player player) {
         players.remove(player);
         if (players.isEmpty())
-            aura.stop();
+            ((AuraMechanicFactory) getFactory()).getEngine().unregister(this);
     }
 
 }
@@ -4,13 +4,24 @@ import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
 import io.th0rgal.oraxen.mechanics.MechanicsManager;
+import io.th0rgal.oraxen.utils.scheduler.OraxenScheduler;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitTask;
 
 public class AuraMechanicFactory extends MechanicFactory {
 
+    private final AuraEngine engine;
+
     public AuraMechanicFactory(ConfigurationSection section) {
         super(section);
+        engine = new AuraEngine(section.getInt("view_distance", 48), section.getInt("max_particles_per_tick", 2000));
         MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new AuraMechanicListener(this));
+        BukkitTask task = OraxenScheduler.runTaskTimer(OraxenPlugin.get(), engine, 1L, 1L);
+        if (task != null) MechanicsManager.registerTask(getMechanicID(), task);
+    }
+
+    public AuraEngine getEngine() {
+        return engine;
     }
 
     @Override
@@ -1,43 +1,31 @@
 package io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.aura;
 
-import io.th0rgal.oraxen.OraxenPlugin;
-import io.th0rgal.oraxen.mechanics.MechanicsManager;
 import io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.AuraMechanic;
-import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.Location;
+
+import java.util.List;
 
 public abstract class Aura {
 
     protected final AuraMechanic mechanic;
-    private BukkitRunnable runnable;
 
     protected Aura(AuraMechanic mechanic) {
         this.mechanic = mechanic;
     }
 
-    BukkitRunnable getRunnable() {
-        return new BukkitRunnable() {
-            @Override
-            public void run() {
-                mechanic.players.forEach(Aura.this::spawnParticles);
-            }
-        };
-    }
-
-    protected abstract void spawnParticles(Player player);
+    /**
+     * Adds the locations of the particles to show around a wearer standing at the given location
+     */
+    public abstract void addParticles(Location location, List<Location> particles);
 
-    protected abstract long getDelay();
+    public abstract long getDelay();
 
-    public void start() {
-        runnable = getRunnable();
-        BukkitTask task = runnable.runTaskTimerAsynchronously(OraxenPlugin.get(), 0L, getDelay());
-        MechanicsManager.registerTask(mechanic.getFactory().getMechanicID(), task);
+    public int getParticleCount() {
+        return 1;
     }
 
-    public void stop() {
-        runnable.cancel();
+    public double getParticleExtra() {
+        return 0;
     }
 
-
 }
@@ -2,7 +2,8 @@ package io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.aura;
 
 import io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.AuraMechanic;
 import org.bukkit.Location;
-import org.bukkit.entity.Player;
+
+import java.util.List;
 
 public class HelixAura extends Aura {
 
@@ -13,18 +14,27 @@ public class HelixAura extends Aura {
     private double y = 0;
 
     @Override
-    protected void spawnParticles(Player player) {
+    public void addParticles(Location location, List<Location> particles) {
         y %= Math.PI;
         y += 0.085;
         int radius = 2;
         double x = radius * Math.cos(2 * y);
         double z = radius * Math.sin(2 * y);
-        Location location = player.getLocation().clone().add(x / (1 + y * y * 0.75), y, z / (1 + y * y * 0.75));
-        player.getWorld().spawnParticle(mechanic.particle, location, 0, 0, 0, 0, 1);
+        particles.add(location.clone().add(x / (1 + y * y * 0.75), y, z / (1 + y * y * 0.75)));
     }
 
     @Override
-    protected long getDelay() {
+    public long getDelay() {
         return 1L;
     }
+
+    @Override
+    public int getParticleCount() {
+        return 0;
+    }
+
+    @Override
+    public double getParticleExtra() {
+        return 1;
+    }
 }
@@ -1,7 +1,9 @@
 package io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.aura;
 
 import io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.AuraMechanic;
-import org.bukkit.entity.Player;
+import org.bukkit.Location;
+
+import java.util.List;
 
 public class RingAura extends Aura {
 
@@ -10,17 +12,17 @@ public class RingAura extends Aura {
     }
 
     @Override
-    protected void spawnParticles(Player player) {
+    public void addParticles(Location location, List<Location> particles) {
         for (double i = 0; i < 25; i++) {
             double advancement = Math.PI * 2D * i / 25;
-            player.getWorld().spawnParticle(mechanic.particle, player.getLocation().add(
+            particles.add(location.clone().add(
                     0.5D * Math.cos(advancement), 2, 0.5D * Math.sin(advancement)
-            ), 1, 0, 0, 0, 0);
+            ));
         }
     }
 
     @Override
-    protected long getDelay() {
+    public long getDelay() {
         return 10L;
     }
 }
@@ -1,7 +1,9 @@
 package io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.aura;
 
 import io.th0rgal.oraxen.mechanics.provided.cosmetic.aura.AuraMechanic;
-import org.bukkit.entity.Player;
+import org.bukkit.Location;
+
+import java.util.List;
 
 public class SimpleAura extends Aura {
     public SimpleAura(AuraMechanic mechanic) {
@@ -9,12 +11,22 @@ public class SimpleAura extends Aura {
     }
 
     @Override
-    protected void spawnParticles(Player player) {
-        player.getWorld().spawnParticle(mechanic.particle, player.getLocation().add(0, 1, 0), 2);
+    public void addParticles(Location location, List<Location> particles) {
+        particles.add(location.clone().add(0, 1, 0));
     }
 
     @Override
-    protected long getDelay() {
+    public long getDelay() {
         return 15L;
     }
+
+    @Override
+    public int getParticleCount() {
+        return 2;
+    }
+
+    @Override
+    public double getParticleExtra() {
+        return 1;
+    }
 }
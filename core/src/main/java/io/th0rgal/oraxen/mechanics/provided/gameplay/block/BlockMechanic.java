@@ -10,6 +10,7 @@ import io.th0rgal.oraxen.utils.drops.Loot;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.MultipleFacing;
 import org.bukkit.configuration.ConfigurationSection;
 
@@ -89,13 +90,18 @@ public class BlockMechanic extends Mechanic {
     }
 
     public static int getCode(final Block block) {
+        return block.getType() == Material.MUSHROOM_STEM ? getCode(block.getBlockData()) : 0;
+    }
+
+    public static int getCode(final BlockData data) {
         int sum = 0;
-        if (block.getType() == Material.MUSHROOM_STEM) {
-            final MultipleFacing blockData = (MultipleFacing) block.getBlockData();
-            final List<BlockFace> properties = Arrays
-                    .asList(BlockFace.EAST, BlockFace.WEST, BlockFace.SOUTH, BlockFace.NORTH, BlockFace.DOWN, BlockFace.UP);
-            for (final BlockFace blockFace : blockData.getFaces())
-                sum += (int) Math.pow(2, properties.indexOf(blockFace));
+        if (data.getMaterial() == Material.MUSHROOM_STEM && data instanceof MultipleFacing blockData) {
+            if (blockData.hasFace(BlockFace.EAST)) sum |= 1;
+            if (blockData.hasFace(BlockFace.WEST)) sum |= 1 << 1;
+            if (blockData.hasFace(BlockFace.SOUTH)) sum |= 1 << 2;
+            if (blockData.hasFace(BlockFace.NORTH)) sum |= 1 << 3;
+            if (blockData.hasFace(BlockFace.DOWN)) sum |= 1 << 4;
+            if (blockData.hasFace(BlockFace.UP)) sum |= 1 << 5;
         }
 
         return sum;
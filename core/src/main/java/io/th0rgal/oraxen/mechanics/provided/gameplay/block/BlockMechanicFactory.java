@@ -13,6 +13,7 @@ import org.bukkit.block.data.MultipleFacing;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,11 +22,15 @@ public class BlockMechanicFactory extends MechanicFactory {
 
     private static final List<JsonObject> MUSHROOM_STEM_BLOCKSTATE_OVERRIDES = new ArrayList<>();
     private static final Map<Integer, BlockMechanic> BLOCK_PER_VARIATION = new HashMap<>();
+    // Flat copy of BLOCK_PER_VARIATION indexed by customVariation, covering every mushroom-stem state
+    private static final BlockMechanic[] MECHANIC_PER_STATE = new BlockMechanic[64];
     public final List<String> toolTypes;
     public final boolean customSounds;
 
     public BlockMechanicFactory(ConfigurationSection section) {
         super(section);
+        BLOCK_PER_VARIATION.clear();
+        Arrays.fill(MECHANIC_PER_STATE, null);
         toolTypes = section.getStringList("tool_types");
         customSounds = OraxenPlugin.get().getConfigsManager().getMechanics().getConfigurationSection("custom_block_sounds").getBoolean("noteblock_and_block", true);
 
@@ -65,17 +70,20 @@ public class BlockMechanicFactory extends MechanicFactory {
                 .add(getBlockstateOverride(mechanic.getModel(itemMechanicConfiguration.getParent().getParent()),
                         mechanic.getCustomVariation()));
         BLOCK_PER_VARIATION.put(mechanic.getCustomVariation(), mechanic);
+        if (mechanic.getCustomVariation() >= 0 && mechanic.getCustomVariation() < MECHANIC_PER_STATE.length)
+            MECHANIC_PER_STATE[mechanic.getCustomVariation()] = mechanic;
         addToImplemented(mechanic);
         return mechanic;
     }
 
     public static BlockMechanic getBlockMechanic(int customVariation) {
+        if (customVariation >= 0 && customVariation < MECHANIC_PER_STATE.length) return MECHANIC_PER_STATE[customVariation];
         return BLOCK_PER_VARIATION.get(customVariation);
     }
 
     public static BlockMechanic getBlockMechanic(Block block) {
         return (block.getType() == Material.MUSHROOM_STEM)
-                ? BLOCK_PER_VARIATION.get(BlockMechanic.getCode(block)) : null;
+                ? getBlockMechanic(BlockMechanic.getCode(block)) : null;
     }
 
     /**
@@ -9,6 +9,7 @@ import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.evolution.Evoluti
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.jukebox.JukeboxListener;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -18,10 +19,12 @@ public class FurnitureFactory extends MechanicFactory {
     public static FurnitureFactory instance;
     public final List<String> toolTypes;
     public final int evolutionCheckDelay;
+    public final int evolutionChecksPerTick;
     private boolean evolvingFurnitures;
     private static EvolutionTask evolutionTask;
     public final boolean customSounds;
     public final boolean detectViabackwards;
+    private final FurnitureIndex furnitureIndex;
 
     public FurnitureFactory(ConfigurationSection section) {
         super(section);
@@ -30,7 +33,11 @@ public class FurnitureFactory extends MechanicFactory {
         else defaultFurnitureType = FurnitureMechanic.FurnitureType.ITEM_FRAME;
         toolTypes = section.getStringList("tool_types");
         evolutionCheckDelay = section.getInt("evolution_check_delay");
+        evolutionChecksPerTick = section.getInt("evolution_checks_per_tick", 64);
+        furnitureIndex = new FurnitureIndex();
+        furnitureIndex.indexLoadedWorlds();
         MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(),
+                furnitureIndex,
                 new FurnitureListener(),
                 new FurnitureUpdater(),
                 new EvolutionListener(),
@@ -67,6 +74,11 @@ public class FurnitureFactory extends MechanicFactory {
         return instance;
     }
 
+    @Nullable
+    public static FurnitureIndex getFurnitureIndex() {
+        return instance != null ? instance.furnitureIndex : null;
+    }
+
     public static EvolutionTask getEvolutionTask() {
         return evolutionTask;
     }
@@ -81,8 +93,9 @@ public class FurnitureFactory extends MechanicFactory {
                 // Task not scheduled yet - ignore
             }
         }
-        evolutionTask = new EvolutionTask(this, evolutionCheckDelay);
-        BukkitTask task = evolutionTask.runTaskTimer(OraxenPlugin.get(), 0, evolutionCheckDelay);
+        evolutionTask = new EvolutionTask(this, evolutionCheckDelay, evolutionChecksPerTick);
+        evolutionTask.indexLoadedWorlds();
+        BukkitTask task = evolutionTask.runTaskTimer(OraxenPlugin.get(), 0, 1);
         MechanicsManager.registerTask(getMechanicID(), task);
         evolvingFurnitures = true;
     }
@@ -0,0 +1,242 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.furniture;
+
+import com.jeff_media.customblockdata.CustomBlockData;
+import com.jeff_media.morepersistentdatatypes.DataType;
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenFurniture;
+import io.th0rgal.oraxen.utils.BlockHelpers;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic.*;
+
+/**
+ * Furniture of the currently loaded chunks by block position, so barrier and hitbox lookups are hash lookups
+ * instead of reading the PersistentDataContainer of a block or querying nearby entities.
+ * Barriers are indexed when their chunk loads, furniture entities when the entities of their chunk load.
+ * Callers check {@link #isIndexed(Block)} or {@link #areEntitiesIndexed(Block)} first and fall back to the old lookups for chunks that are not
+ */
+public class FurnitureIndex implements Listener {
+
+    private final Map<ChunkKey, ChunkIndex> chunks = new ConcurrentHashMap<>();
+    private final Map<UUID, List<BlockKey>> entityBlocks = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> interactionsByBase = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> basesByInteraction = new ConcurrentHashMap<>();
+
+    /**
+     * A barrier of a furniture, the base entity and seat are null for barriers placed before they were stored on the block
+     */
+    public record Barrier(String itemID, @Nullable UUID baseEntity, @Nullable UUID seat) {
+    }
+
+    public void indexLoadedWorlds() {
+        for (World world : Bukkit.getWorlds())
+            for (Chunk chunk : world.getLoadedChunks()) {
+                indexBarriers(chunk);
+                indexEntities(chunk, List.of(chunk.getEntities()));
+            }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        indexBarriers(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(event.getChunk()));
+        if (chunkIndex == null) return;
+        chunkIndex.barriersIndexed = false;
+        chunkIndex.barriers.clear();
+        removeIfUnused(ChunkKey.of(event.getChunk()), chunkIndex);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        indexEntities(event.getChunk(), event.getEntities());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities())
+            if (entityBlocks.containsKey(entity.getUniqueId())) removeEntity(entity.getUniqueId());
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(event.getChunk()));
+        if (chunkIndex == null) return;
+        chunkIndex.entitiesIndexed = false;
+        removeIfUnused(ChunkKey.of(event.getChunk()), chunkIndex);
+    }
+
+    /**
+     * Hitboxes crossing a chunk border are indexed in the neighbouring chunk as well, those entries are owned by entities
+     * that are still loaded, so the index of an unloaded chunk is only dropped once nothing references it anymore
+     */
+    private void removeIfUnused(ChunkKey chunkKey, ChunkIndex chunkIndex) {
+        if (!chunkIndex.barriersIndexed && !chunkIndex.entitiesIndexed && chunkIndex.entities.isEmpty())
+            chunks.remove(chunkKey, chunkIndex);
+    }
+
+    private void indexBarriers(Chunk chunk) {
+        ChunkIndex chunkIndex = chunks.computeIfAbsent(ChunkKey.of(chunk), k -> new ChunkIndex());
+        for (Block block : CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk)) {
+            PersistentDataContainer pdc = BlockHelpers.getPDC(block);
+            String itemID = pdc.get(FURNITURE_KEY, PersistentDataType.STRING);
+            if (itemID == null) continue;
+            chunkIndex.barriers.put(BlockKey.pack(block), new Barrier(itemID, pdc.get(BASE_ENTITY_KEY, DataType.UUID), pdc.get(SEAT_KEY, DataType.UUID)));
+        }
+        chunkIndex.barriersIndexed = true;
+    }
+
+    private void indexEntities(Chunk chunk, List<Entity> entities) {
+        for (Entity entity : entities)
+            addEntity(entity);
+        chunks.computeIfAbsent(ChunkKey.of(chunk), k -> new ChunkIndex()).entitiesIndexed = true;
+    }
+
+    public boolean isIndexed(Block block) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(block));
+        return chunkIndex != null && chunkIndex.barriersIndexed;
+    }
+
+    public boolean areEntitiesIndexed(Block block) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(block));
+        return chunkIndex != null && chunkIndex.entitiesIndexed;
+    }
+
+    @Nullable
+    public Barrier getBarrier(Block block) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(block));
+        return chunkIndex != null ? chunkIndex.barriers.get(BlockKey.pack(block)) : null;
+    }
+
+    public void addBarrier(Block block, String itemID, UUID baseEntity, @Nullable UUID seat) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(block));
+        if (chunkIndex != null) chunkIndex.barriers.put(BlockKey.pack(block), new Barrier(itemID, baseEntity, seat));
+    }
+
+    public void removeBarrier(Block block) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(block));
+        if (chunkIndex != null) chunkIndex.barriers.remove(BlockKey.pack(block));
+    }
+
+    /**
+     * @return true if the hitbox of a furniture entity overlaps the block, the same check as querying the entities near the block
+     */
+    public boolean hasFurnitureEntity(Block block) {
+        ChunkIndex chunkIndex = chunks.get(ChunkKey.of(block));
+        Set<UUID> entities = chunkIndex != null ? chunkIndex.entities.get(BlockKey.pack(block)) : null;
+        if (entities == null) return false;
+        for (UUID uuid : entities)
+            if (OraxenFurniture.isFurniture(Bukkit.getEntity(uuid))) return true;
+        return false;
+    }
+
+    @Nullable
+    public UUID getInteraction(UUID baseEntity) {
+        return interactionsByBase.get(baseEntity);
+    }
+
+    /**
+     * Indexes the blocks the hitbox of a furniture entity overlaps, other entities are ignored
+     */
+    public void addEntity(@Nullable Entity entity) {
+        if (entity == null) return;
+        PersistentDataContainer pdc = entity.getPersistentDataContainer();
+        if (!pdc.has(FURNITURE_KEY, PersistentDataType.STRING)) return;
+        UUID uuid = entity.getUniqueId();
+        if (entityBlocks.containsKey(uuid)) removeEntity(uuid);
+
+        if (OraxenPlugin.supportsDisplayEntities && entity instanceof Interaction) {
+            UUID baseEntity = pdc.get(BASE_ENTITY_KEY, DataType.UUID);
+            if (baseEntity != null) {
+                interactionsByBase.put(baseEntity, uuid);
+                basesByInteraction.put(uuid, baseEntity);
+            }
+        }
+
+        UUID world = entity.getWorld().getUID();
+        BoundingBox box = entity.getBoundingBox();
+        int minX = (int) Math.floor(box.getMinX()), minY = (int) Math.floor(box.getMinY()), minZ = (int) Math.floor(box.getMinZ());
+        // Blocks only touching the edge of the hitbox do not overlap it
+        int maxX = Math.max(minX, (int) Math.ceil(box.getMaxX()) - 1);
+        int maxY = Math.max(minY, (int) Math.ceil(box.getMaxY()) - 1);
+        int maxZ = Math.max(minZ, (int) Math.ceil(box.getMaxZ()) - 1);
+
+        List<BlockKey> blocks = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+            for (int y = minY; y <= maxY; y++)
+                for (int z = minZ; z <= maxZ; z++) {
+                    BlockKey blockKey = new BlockKey(new ChunkKey(world, x >> 4, z >> 4), BlockKey.pack(x, y, z));
+                    chunks.computeIfAbsent(blockKey.chunk, k -> new ChunkIndex()).entities
+                            .computeIfAbsent(blockKey.block, k -> ConcurrentHashMap.newKeySet()).add(uuid);
+                    blocks.add(blockKey);
+                }
+        entityBlocks.put(uuid, blocks);
+    }
+
+    public void removeEntity(UUID uuid) {
+        UUID interaction = interactionsByBase.remove(uuid);
+        if (interaction != null) basesByInteraction.remove(interaction);
+        UUID baseEntity = basesByInteraction.remove(uuid);
+        if (baseEntity != null) interactionsByBase.remove(baseEntity, uuid);
+        List<BlockKey> blocks = entityBlocks.remove(uuid);
+        if (blocks == null) return;
+        for (BlockKey blockKey : blocks) {
+            ChunkIndex chunkIndex = chunks.get(blockKey.chunk);
+            if (chunkIndex == null) continue;
+            Set<UUID> entities = chunkIndex.entities.get(blockKey.block);
+            if (entities != null && entities.remove(uuid) && entities.isEmpty()) {
+                chunkIndex.entities.remove(blockKey.block);
+                removeIfUnused(blockKey.chunk, chunkIndex);
+            }
+        }
+    }
+
+    private static class ChunkIndex {
+        private final Map<Long, Barrier> barriers = new ConcurrentHashMap<>();
+        private final Map<Long, Set<UUID>> entities = new ConcurrentHashMap<>();
+        private volatile boolean barriersIndexed = false;
+        private volatile boolean entitiesIndexed = false;
+    }
+
+    private record BlockKey(ChunkKey chunk, long block) {
+        private static long pack(Block block) {
+            return pack(block.getX(), block.getY(), block.getZ());
+        }
+
+        private static long pack(int x, int y, int z) {
+            return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+        }
+    }
+
+    private record ChunkKey(UUID world, int x, int z) {
+        private static ChunkKey of(Chunk chunk) {
+            return new ChunkKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        }
+
+        private static ChunkKey of(Block block) {
+            return new ChunkKey(block.getWorld().getUID(), block.getX() >> 4, block.getZ() >> 4);
+        }
+    }
+}
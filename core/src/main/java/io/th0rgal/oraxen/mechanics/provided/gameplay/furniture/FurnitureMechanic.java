@@ -1,5 +1,6 @@
 package io.th0rgal.oraxen.mechanics.provided.gameplay.furniture;
 
+import com.google.common.hash.Hashing;
 import com.jeff_media.customblockdata.CustomBlockData;
 import com.jeff_media.morepersistentdatatypes.DataType;
 import com.ticxo.modelengine.api.ModelEngineAPI;
@@ -9,6 +10,8 @@ import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenFurniture;
 import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.compatibilities.provided.blocklocker.BlockLockerMechanic;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.items.ItemBuilder;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.evolution.EvolvingFurniture;
@@ -25,6 +28,7 @@ import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
@@ -35,6 +39,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class FurnitureMechanic extends Mechanic {
@@ -48,6 +53,7 @@ public class FurnitureMechanic extends Mechanic {
     public static final NamespacedKey ORIENTATION_KEY = new NamespacedKey(OraxenPlugin.get(), "orientation");
     public static final NamespacedKey EVOLUTION_KEY = new NamespacedKey(OraxenPlugin.get(), "evolution");
     public static final NamespacedKey BARRIER_KEY = new NamespacedKey(OraxenPlugin.get(), "barriers");
+    public static final NamespacedKey STAMP_KEY = new NamespacedKey(OraxenPlugin.get(), "furniture_stamp");
 
     private final int hardness;
     private final LimitedPlacing limitedPlacing;
@@ -73,6 +79,7 @@ public class FurnitureMechanic extends Mechanic {
     private final boolean isRotatable;
     private final BlockLockerMechanic blockLocker;
     private final RestrictedRotation restrictedRotation;
+    private String stamp;
 
     public record FurnitureHitbox(float width, float height) {
     }
@@ -225,6 +232,10 @@ public class FurnitureMechanic extends Mechanic {
     public static ArmorStand getSeat(Location location) {
         Location seatLoc = BlockHelpers.toCenterBlockLocation(location);
         if (location.getWorld() == null) return null;
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        FurnitureIndex.Barrier barrier = index != null ? index.getBarrier(location.getBlock()) : null;
+        if (barrier != null && barrier.seat() != null && Bukkit.getEntity(barrier.seat()) instanceof ArmorStand seat)
+            return seat;
         for (Entity entity : location.getWorld().getNearbyEntities(seatLoc, 0.1, 4, 0.1)) {
             if (entity instanceof ArmorStand seat
                     && entity.getLocation().getX() == seatLoc.getX()
@@ -376,6 +387,10 @@ public class FurnitureMechanic extends Mechanic {
         item.setAmount(1);
 
         Entity baseEntity = EntityUtils.spawnEntity(correctedSpawnLocation(location, facing), entityClass, (e) -> setEntityData(e, yaw, item, facing));
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null) index.addEntity(baseEntity);
+        if (hasEvolution() && FurnitureFactory.getEvolutionTask() != null)
+            FurnitureFactory.getEvolutionTask().index(baseEntity);
         if (this.isModelEngine() && PluginUtils.isEnabled("ModelEngine")) {
             spawnModelEngineFurniture(baseEntity);
         }
@@ -468,6 +483,8 @@ public class FurnitureMechanic extends Mechanic {
         pdc.set(FURNITURE_KEY, DataType.STRING, getItemID());
         pdc.set(BASE_ENTITY_KEY, DataType.UUID, entity.getUniqueId());
         entity.getPersistentDataContainer().set(INTERACTION_KEY, DataType.UUID, interaction.getUniqueId());
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null) index.addEntity(interaction);
 
         return interaction;
     }
@@ -543,15 +560,18 @@ public class FurnitureMechanic extends Mechanic {
 
     private void setBarrierHitbox(Entity entity, Location location, float yaw) {
         List<Location> barrierLocations = getLocations(yaw, BlockHelpers.toCenterBlockLocation(location), barriers);
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
         for (Location barrierLocation : barrierLocations) {
             Block block = barrierLocation.getBlock();
             block.setType(Material.BARRIER);
             PersistentDataContainer data = BlockHelpers.getPDC(block);
             data.set(FURNITURE_KEY, PersistentDataType.STRING, getItemID());
-            if (hasSeat) data.set(SEAT_KEY, DataType.UUID, spawnSeat(block, hasSeatYaw ? seatYaw : yaw));
+            UUID seat = hasSeat ? spawnSeat(block, hasSeatYaw ? seatYaw : yaw) : null;
+            if (seat != null) data.set(SEAT_KEY, DataType.UUID, seat);
             data.set(ROOT_KEY, PersistentDataType.STRING, new BlockLocation(location.clone()).toString());
             data.set(ORIENTATION_KEY, PersistentDataType.FLOAT, yaw);
             data.set(BASE_ENTITY_KEY, DataType.UUID, entity.getUniqueId());
+            if (index != null) index.addBarrier(block, getItemID(), entity.getUniqueId(), seat);
             if (light.hasLightLevel()) light.createBlockLight(block);
         }
     }
@@ -584,11 +604,38 @@ public class FurnitureMechanic extends Mechanic {
         }
     }
 
+    /**
+     * @return a hash of this furniture's item and mechanic, stored on base entities under {@link #STAMP_KEY}
+     * once they are updated, so updating them again can be skipped until either changes
+     */
+    public String getStamp() {
+        if (stamp == null) {
+            YamlConfiguration content = new YamlConfiguration();
+            ItemBuilder item = OraxenItems.getItemById(getItemID());
+            content.set("item", item != null ? item.getStamp() : "");
+            ItemBuilder placedItem = placedItemId != null ? OraxenItems.getItemById(placedItemId) : null;
+            if (placedItem != null) content.set("placed_item", placedItem.getStamp());
+            content.set("mechanic", getSection());
+            content.set("type_update", Settings.EXPERIMENTAL_FURNITURE_TYPE_UPDATE.toBool());
+            stamp = Hashing.murmur3_128().hashString(content.saveToString(), StandardCharsets.UTF_8).toString();
+        }
+        return stamp;
+    }
+
+    public boolean isUpToDate(Entity baseEntity) {
+        return getStamp().equals(baseEntity.getPersistentDataContainer().get(STAMP_KEY, PersistentDataType.STRING));
+    }
+
+    public void stamp(Entity baseEntity) {
+        baseEntity.getPersistentDataContainer().set(STAMP_KEY, PersistentDataType.STRING, getStamp());
+    }
+
     public void removeSolid(Entity baseEntity, Location rootLocation, float orientation) {
         if (hasLimitedPlacing() && limitedPlacing.isRoof() && furnitureType == FurnitureType.DISPLAY_ENTITY)
             orientation = orientation - 180;
         List<BlockLocation> blockLocations = baseEntity.getPersistentDataContainer().getOrDefault(BARRIER_KEY, DataType.asList(BlockLocation.dataType), new ArrayList<>());
         List<Location> barrierLocations = getLocations(orientation, rootLocation, blockLocations.isEmpty() ? getBarriers() : blockLocations);
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
 
         for (Location location : barrierLocations) {
             Block block = location.getBlock();
@@ -598,6 +645,7 @@ public class FurnitureMechanic extends Mechanic {
 
             block.setType(Material.AIR);
             new CustomBlockData(location.getBlock(), OraxenPlugin.get()).clear();
+            if (index != null) index.removeBarrier(block);
             if (light.hasLightLevel()) light.removeBlockLight(block);
         }
         removeBaseEntity(baseEntity);
@@ -612,20 +660,30 @@ public class FurnitureMechanic extends Mechanic {
         removeSubEntitiesOfFurniture(baseEntity);
         if (light.hasLightLevel()) light.removeBlockLight(baseEntity.getLocation().getBlock());
         if (!baseEntity.isDead()) baseEntity.remove();
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null) index.removeEntity(baseEntity.getUniqueId());
     }
 
     private void removeSubEntitiesOfFurniture(Entity baseEntity) {
         if (light.hasLightLevel()) light.removeBlockLight(baseEntity.getLocation().getBlock());
-        if (hasSeat) removeFurnitureSeat(baseEntity.getLocation());
+        if (hasSeat) {
+            ArmorStand seat = getSeat(baseEntity);
+            removeFurnitureSeat(seat != null ? seat : getSeat(baseEntity.getLocation()));
+        }
 
         if (OraxenPlugin.supportsDisplayEntities) {
             Interaction interaction = getInteractionEntity(baseEntity);
             if (interaction != null && !interaction.isDead()) interaction.remove();
+            FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+            if (interaction != null && index != null) index.removeEntity(interaction.getUniqueId());
         }
     }
 
     private void removeFurnitureSeat(Location location) {
-        ArmorStand seat = getSeat(location);
+        removeFurnitureSeat(getSeat(location));
+    }
+
+    private void removeFurnitureSeat(@Nullable ArmorStand seat) {
         if (seat != null) {
             seat.getPassengers().forEach(seat::removePassenger);
             if (!seat.isDead()) seat.remove();
@@ -697,11 +755,21 @@ public class FurnitureMechanic extends Mechanic {
             stand.addEquipmentLock(EquipmentSlot.FEET, ArmorStand.LockType.ADDING_OR_CHANGING);
             stand.getPersistentDataContainer().set(FURNITURE_KEY, PersistentDataType.STRING, getItemID());
         });
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null) index.addEntity(seat);
         return seat.getUniqueId();
     }
 
     @Nullable
     public Entity getBaseEntity(Block block) {
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (index != null && index.isIndexed(block)) {
+            FurnitureIndex.Barrier barrier = index.getBarrier(block);
+            if (barrier == null) return null;
+            // Barriers placed before the base entity was stored on them still need the lookup below
+            if (barrier.baseEntity() != null) return Bukkit.getEntity(barrier.baseEntity());
+        }
+
         PersistentDataContainer pdc = BlockHelpers.getPDC(block);
         if (pdc.isEmpty()) return null;
         final BlockLocation blockLoc = new BlockLocation(Objects.requireNonNull(pdc.get(ROOT_KEY, PersistentDataType.STRING)));
@@ -763,6 +831,8 @@ public class FurnitureMechanic extends Mechanic {
     @Nullable
     public Interaction getInteractionEntity(@NotNull Entity baseEntity) {
         UUID interactionUUID = baseEntity.getPersistentDataContainer().get(INTERACTION_KEY, DataType.UUID);
+        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+        if (interactionUUID == null && index != null) interactionUUID = index.getInteraction(baseEntity.getUniqueId());
         return OraxenPlugin.supportsDisplayEntities && interactionUUID != null && Bukkit.getEntity(interactionUUID) instanceof Interaction interaction
                 ? interaction : getInteractionEntityAlter(baseEntity);
     }
@@ -0,0 +1,92 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.furniture;
+
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenFurniture;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.utils.logs.Logs;
+import io.th0rgal.oraxen.utils.scheduler.OraxenScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updates the placed furniture of every loaded chunk, chunk by chunk.
+ * Each tick it works through queued chunks until {@link Settings#UPDATE_FURNITURE_TICK_BUDGET} milliseconds are spent
+ * and continues in the next tick. Furniture already stamped with the current state of its mechanic is skipped.
+ * Starting a new migration cancels the one that is running.
+ */
+public class FurnitureMigration implements Runnable {
+
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+    private static FurnitureMigration running;
+
+    private final Deque<QueuedChunk> chunks = new ArrayDeque<>();
+    private final long tickBudget;
+    private final int totalChunks;
+    private final long startTime = System.nanoTime();
+    private long lastProgress = startTime;
+    private int updated = 0;
+    private int skipped = 0;
+    private BukkitTask task;
+
+    private FurnitureMigration() {
+        for (World world : Bukkit.getWorlds())
+            for (Chunk chunk : world.getLoadedChunks())
+                chunks.add(new QueuedChunk(world, chunk.getX(), chunk.getZ()));
+        totalChunks = chunks.size();
+        tickBudget = TimeUnit.MILLISECONDS.toNanos(Math.max(1, Settings.UPDATE_FURNITURE_TICK_BUDGET.toInt(10)));
+    }
+
+    public static void start() {
+        if (running != null) running.cancel();
+        running = new FurnitureMigration();
+        running.task = OraxenScheduler.runTaskTimer(OraxenPlugin.get(), running, 1L, 1L);
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime() + tickBudget;
+        while (!chunks.isEmpty() && System.nanoTime() < deadline)
+            migrate(chunks.poll());
+
+        long now = System.nanoTime();
+        if (chunks.isEmpty()) {
+            cancel();
+            Logs.logSuccess("Updated %d furniture in %d chunks, %d were already up to date (%dms)"
+                    .formatted(updated, totalChunks, skipped, TimeUnit.NANOSECONDS.toMillis(now - startTime)));
+        } else if (now - lastProgress >= PROGRESS_INTERVAL) {
+            lastProgress = now;
+            Logs.logInfo("Updating furniture... %d/%d chunks, %d updated, %d already up to date"
+                    .formatted(totalChunks - chunks.size(), totalChunks, updated, skipped));
+        }
+    }
+
+    private void migrate(QueuedChunk queued) {
+        // Chunks unloaded since the migration started update their furniture when loaded again, if enabled
+        if (!queued.world.isChunkLoaded(queued.x, queued.z)) return;
+        for (Entity entity : queued.world.getChunkAt(queued.x, queued.z).getEntities()) {
+            if (!OraxenFurniture.isBaseEntity(entity)) continue;
+            FurnitureMechanic mechanic = OraxenFurniture.getFurnitureMechanic(entity);
+            if (mechanic == null) continue;
+            if (mechanic.isUpToDate(entity)) skipped++;
+            else {
+                OraxenFurniture.updateFurniture(entity);
+                updated++;
+            }
+        }
+    }
+
+    private void cancel() {
+        if (task != null) task.cancel();
+        if (running == this) running = null;
+    }
+
+    private record QueuedChunk(World world, int x, int z) {
+    }
+}
@@ -32,6 +32,8 @@ public class FurniturePaperListener implements Listener {
                     if (b.getType() == Material.BARRIER) {
                         b.setType(Material.AIR);
                         new CustomBlockData(b, OraxenPlugin.get()).clear();
+                        FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
+                        if (index != null) index.removeBarrier(b);
                     }
                 });
             }
@@ -45,9 +45,11 @@ public class FurnitureUpdater implements Listener {
                     if (rootLoc == null) return;
 
                     //OraxenFurniture.remove(block.getLocation(), null);
+                    FurnitureIndex index = FurnitureFactory.getFurnitureIndex();
                     mechanic.getLocations(yaw, rootLoc, mechanic.getBarriers()).forEach(loc -> {
                         loc.getBlock().setType(Material.AIR);
                         new CustomBlockData(loc.getBlock(), OraxenPlugin.get()).clear();
+                        if (index != null) index.removeBarrier(loc.getBlock());
                     });
                     mechanic.place(rootLoc, yaw, BlockFace.UP);
                 }
@@ -0,0 +1,112 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.evolution;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evolving furniture of the currently loaded chunks, so the {@link EvolutionTask} never has to scan every entity of every world.
+ * Entries are queued in the order they were last checked, meaning the head of the queue is always the one that waited the longest.
+ * Only accessed from the main thread
+ */
+public class EvolutionIndex {
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<ChunkKey, Set<UUID>> chunks = new HashMap<>();
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+
+    public void add(Entity entity, long tick) {
+        if (entries.containsKey(entity.getUniqueId())) return;
+        Entry entry = new Entry(entity, ChunkKey.of(entity.getLocation()), tick);
+        entries.put(entity.getUniqueId(), entry);
+        chunks.computeIfAbsent(entry.chunk, k -> new HashSet<>()).add(entity.getUniqueId());
+        queue.addLast(entry);
+    }
+
+    public void remove(Entity entity) {
+        Entry entry = entries.get(entity.getUniqueId());
+        if (entry != null) remove(entry);
+    }
+
+    void remove(Entry entry) {
+        if (entry.removed) return;
+        entry.removed = true;
+        entries.remove(entry.entity.getUniqueId());
+        Set<UUID> chunkEntries = chunks.get(entry.chunk);
+        if (chunkEntries != null && chunkEntries.remove(entry.entity.getUniqueId()) && chunkEntries.isEmpty())
+            chunks.remove(entry.chunk);
+    }
+
+    public void unloadChunk(Chunk chunk) {
+        Set<UUID> chunkEntries = chunks.remove(ChunkKey.of(chunk));
+        if (chunkEntries == null) return;
+        for (UUID uuid : chunkEntries) {
+            Entry entry = entries.remove(uuid);
+            if (entry != null) entry.removed = true;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        chunks.clear();
+        queue.clear();
+    }
+
+    /**
+     * @return the entry that waited the longest if it waited at least the given delay, removed entries are dropped on the way
+     */
+    @Nullable
+    Entry pollDue(long tick, int delay) {
+        while (!queue.isEmpty()) {
+            Entry entry = queue.peekFirst();
+            if (entry.removed) {
+                queue.pollFirst();
+                continue;
+            }
+            if (tick - entry.lastCheck < delay) return null;
+            return queue.pollFirst();
+        }
+        return null;
+    }
+
+    void requeue(Entry entry, long tick) {
+        if (entry.removed) return;
+        entry.lastCheck = tick;
+        queue.addLast(entry);
+    }
+
+    static final class Entry {
+        final Entity entity;
+        final ChunkKey chunk;
+        long lastCheck;
+        boolean removed = false;
+
+        private Entry(Entity entity, ChunkKey chunk, long lastCheck) {
+            this.entity = entity;
+            this.chunk = chunk;
+            this.lastCheck = lastCheck;
+        }
+    }
+
+    private record ChunkKey(UUID world, int x, int z) {
+        private static ChunkKey of(Chunk chunk) {
+            return new ChunkKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        }
+
+        private static ChunkKey of(Location location) {
+            return new ChunkKey(location.getWorld().getUID(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -21,6 +23,20 @@ public class EvolutionListener implements Listener {
     public EvolutionListener() {
     }
 
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        EvolutionTask evolutionTask = FurnitureFactory.getEvolutionTask();
+        if (evolutionTask == null) return;
+        for (Entity entity : event.getEntities())
+            evolutionTask.index(entity);
+    }
+
+    @EventHandler
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        EvolutionTask evolutionTask = FurnitureFactory.getEvolutionTask();
+        if (evolutionTask != null) evolutionTask.getIndex().unloadChunk(event.getChunk());
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBoneMeal(PlayerInteractEntityEvent event) {
         if (event.getHand() != EquipmentSlot.HAND) return;
@@ -19,76 +19,125 @@ import org.bukkit.scheduler.BukkitRunnable;
 
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic.EVOLUTION_KEY;
 
+/**
+ * Runs every tick and checks the evolving furniture from the {@link EvolutionIndex} that waited at least the evolution-delay,
+ * at most checksPerTick of them per tick so large farms are spread out instead of being handled in a single tick
+ */
 public class EvolutionTask extends BukkitRunnable {
 
     private final FurnitureFactory furnitureFactory;
     private final int delay;
+    private final int checksPerTick;
+    private final EvolutionIndex index = new EvolutionIndex();
+    private long tick = 0;
 
-    public EvolutionTask(FurnitureFactory furnitureFactory, int delay) {
+    public EvolutionTask(FurnitureFactory furnitureFactory, int delay, int checksPerTick) {
         this.furnitureFactory = furnitureFactory;
         this.delay = delay;
+        this.checksPerTick = Math.max(1, checksPerTick);
     }
 
-    @Override
-    public void run() {
+    public EvolutionIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Adds the entity to the index if it is evolving furniture
+     */
+    public void index(Entity entity) {
+        if (entity.getPersistentDataContainer().has(EVOLUTION_KEY, PersistentDataType.INTEGER))
+            index.add(entity, tick);
+    }
+
+    /**
+     * Indexes the evolving furniture of all loaded worlds, used when the task is (re)started
+     */
+    public void indexLoadedWorlds() {
         for (World world : Bukkit.getWorlds())
             for (Class<? extends Entity> entityClass : FurnitureMechanic.FurnitureType.furnitureEntityClasses())
-                for (Entity entity : world.getEntitiesByClass(entityClass)) {
-                    Location entityLoc = entity.getLocation();
-                    PersistentDataContainer pdc = entity.getPersistentDataContainer();
-                    if (!pdc.has(EVOLUTION_KEY, PersistentDataType.INTEGER)) continue;
-
-                    Block blockBelow = entityLoc.getBlock().getRelative(BlockFace.DOWN);
-                    FurnitureMechanic mechanic = OraxenFurniture.getFurnitureMechanic(entity);
-                    if (mechanic == null) continue;
-
-                    if (mechanic.farmlandRequired && blockBelow.getType() != Material.FARMLAND) {
-                        OraxenFurniture.remove(entity, null);
-                        continue;
-                    }
-
-                    if (mechanic.farmblockRequired) {
-                        NoteBlockMechanic noteMechanic = OraxenBlocks.getNoteBlockMechanic(blockBelow);
-                        if (noteMechanic == null || !noteMechanic.hasDryout()) {
-                            OraxenFurniture.remove(entity, null);
-                            continue;
-                        }
-                        FarmBlockDryout dryoutMechanic = noteMechanic.getDryout();
-                        if (!dryoutMechanic.isFarmBlock()) {
-                            OraxenFurniture.remove(entity, null);
-                            continue;
-                        } else if (!dryoutMechanic.isMoistFarmBlock()) {
-                            pdc.set(FurnitureMechanic.EVOLUTION_KEY, PersistentDataType.INTEGER, 0);
-                            continue;
-                        }
-                    }
-
-                    EvolvingFurniture evolution = mechanic.getEvolution();
-                    if (evolution == null) continue;
-
-                    int lightBoostTick = 0;
-                    int rainBoostTick = 0;
-
-                    if (evolution.isLightBoosted() && entityLoc.getBlock().getLightLevel() >= evolution.getMinimumLightLevel())
-                        lightBoostTick = evolution.getLightBoostTick();
-
-                    if (evolution.isRainBoosted() && world.hasStorm() && world.getHighestBlockAt(entityLoc).getY() > entityLoc.getY())
-                        rainBoostTick = evolution.getRainBoostTick();
-
-                    int evolutionStep = pdc.get(EVOLUTION_KEY, PersistentDataType.INTEGER) + delay + lightBoostTick + rainBoostTick;
-
-                    if (evolutionStep > evolution.getDelay()) {
-                        if (evolution.getNextStage() == null) continue;
-                        if (!evolution.bernoulliTest()) continue;
-
-                        FurnitureMechanic nextMechanic = (FurnitureMechanic) furnitureFactory.getMechanic(evolution.getNextStage());
-                        if (nextMechanic == null) continue;
-
-                        OraxenFurniture.remove(entity, null);
-                        nextMechanic.place(entity.getLocation(), entity.getLocation().getYaw(), entity.getFacing());
-                        //OraxenFurniture.place(entity.getLocation(), evolution.getNextStage(), FurnitureMechanic.yawToRotation(entity.getLocation().getYaw()), entity.getFacing());
-                        //nextMechanic.place(entityLoc, entityLoc.getYaw(), FurnitureMechanic.yawToRotation(entityLoc.getYaw()), entity.getFacing());
-                    } else pdc.set(FurnitureMechanic.EVOLUTION_KEY, PersistentDataType.INTEGER, evolutionStep);
-                }
+                for (Entity entity : world.getEntitiesByClass(entityClass))
+                    index(entity);
+    }
+
+    @Override
+    public void run() {
+        tick++;
+        for (int checked = 0; checked < checksPerTick; checked++) {
+            EvolutionIndex.Entry entry = index.pollDue(tick, delay);
+            if (entry == null) break;
+
+            if (entry.entity.isValid() && evolve(entry.entity, (int) (tick - entry.lastCheck)))
+                index.requeue(entry, tick);
+            else index.remove(entry);
+        }
+    }
+
+    @Override
+    public synchronized void cancel() throws IllegalStateException {
+        index.clear();
+        super.cancel();
+    }
+
+    /**
+     * @return whether the entity is still evolving furniture and should stay indexed
+     */
+    private boolean evolve(Entity entity, int elapsed) {
+        Location entityLoc = entity.getLocation();
+        World world = entity.getWorld();
+        PersistentDataContainer pdc = entity.getPersistentDataContainer();
+        Integer currentStep = pdc.get(EVOLUTION_KEY, PersistentDataType.INTEGER);
+        if (currentStep == null) return false;
+
+        Block blockBelow = entityLoc.getBlock().getRelative(BlockFace.DOWN);
+        FurnitureMechanic mechanic = OraxenFurniture.getFurnitureMechanic(entity);
+        if (mechanic == null) return false;
+
+        if (mechanic.farmlandRequired && blockBelow.getType() != Material.FARMLAND) {
+            OraxenFurniture.remove(entity, null);
+            return false;
+        }
+
+        if (mechanic.farmblockRequired) {
+            NoteBlockMechanic noteMechanic = OraxenBlocks.getNoteBlockMechanic(blockBelow);
+            if (noteMechanic == null || !noteMechanic.hasDryout()) {
+                OraxenFurniture.remove(entity, null);
+                return false;
+            }
+            FarmBlockDryout dryoutMechanic = noteMechanic.getDryout();
+            if (!dryoutMechanic.isFarmBlock()) {
+                OraxenFurniture.remove(entity, null);
+                return false;
+            } else if (!dryoutMechanic.isMoistFarmBlock()) {
+                pdc.set(FurnitureMechanic.EVOLUTION_KEY, PersistentDataType.INTEGER, 0);
+                return true;
+            }
+        }
+
+        EvolvingFurniture evolution = mechanic.getEvolution();
+        if (evolution == null) return true;
+
+        int lightBoostTick = 0;
+        int rainBoostTick = 0;
+
+        if (evolution.isLightBoosted() && entityLoc.getBlock().getLightLevel() >= evolution.getMinimumLightLevel())
+            lightBoostTick = evolution.getLightBoostTick();
+
+        if (evolution.isRainBoosted() && world.hasStorm() && world.getHighestBlockAt(entityLoc).getY() > entityLoc.getY())
+            rainBoostTick = evolution.getRainBoostTick();
+
+        int evolutionStep = currentStep + elapsed + lightBoostTick + rainBoostTick;
+
+        if (evolutionStep > evolution.getDelay()) {
+            if (evolution.getNextStage() == null) return true;
+            if (!evolution.bernoulliTest()) return true;
+
+            FurnitureMechanic nextMechanic = (FurnitureMechanic) furnitureFactory.getMechanic(evolution.getNextStage());
+            if (nextMechanic == null) return true;
+
+            OraxenFurniture.remove(entity, null);
+            nextMechanic.place(entity.getLocation(), entity.getLocation().getYaw(), entity.getFacing());
+            return false;
+        } else pdc.set(FurnitureMechanic.EVOLUTION_KEY, PersistentDataType.INTEGER, evolutionStep);
+        return true;
     }
 }
@@ -0,0 +1,302 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing;
+
+import io.th0rgal.oraxen.mechanics.Mechanic;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The placed custom blocks of one material by chunk section, so radius limitations count nearby blocks
+ * from the few sections around a block instead of resolving every block in the radius.
+ * A section is scanned the first time it is queried after its chunk loaded, placing and removing blocks keeps it up to date.
+ * Every counted block is checked against the world, so removed blocks are never counted.
+ * Blocks of the material that appear any other way drop their section, so it is scanned again. Changes firing no block event are covered
+ * by {@link #invalidate(World, int, int, int)}, called for WorldEdit edits with the block setting disabled, and by vanilla block commands clearing the index.
+ * Functions, datapacks and other plugins can still add blocks unnoticed, so the index is only a hint below the limit:
+ * sections scanned longer than {@link #REVERIFY_AFTER} ago are checked again before a count under the limit is trusted.
+ * Radii small enough that resolving every block is cheaper than scanning the sections are counted directly.
+ */
+public class PlacedBlockIndex implements Listener {
+
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+    private static final Set<String> BLOCK_COMMANDS = Set.of("clone", "fill", "setblock", "place", "function");
+    private static final long REVERIFY_AFTER = TimeUnit.SECONDS.toMillis(30);
+
+    private final Material material;
+    private final Function<Block, ? extends Mechanic> resolver;
+    private final Map<ChunkKey, Map<Integer, Section>> chunks = new ConcurrentHashMap<>();
+
+    /**
+     * @param material The material every indexed block has
+     * @param resolver Resolves the mechanic of a block of that material, null if it is not a custom block
+     */
+    public PlacedBlockIndex(Material material, Function<Block, ? extends Mechanic> resolver) {
+        this.material = material;
+        this.resolver = resolver;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        // Sections are scanned again when queried, the chunk might have changed while it was unloaded
+        chunks.remove(ChunkKey.of(event.getChunk()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        chunks.remove(ChunkKey.of(event.getChunk()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlockPlaced();
+        if (block.getType() != material) return;
+        Mechanic mechanic = resolver.apply(block);
+        if (mechanic != null) add(block, mechanic.getItemID());
+        else remove(block);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        if (event.getBlock().getType() == material) remove(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        invalidateMoved(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        invalidateMoved(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        for (BlockState state : event.getBlocks())
+            if (state.getType() == material) invalidate(state.getWorld(), state.getX(), state.getY(), state.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        onCommand(event.getMessage());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onServerCommand(ServerCommandEvent event) {
+        onCommand(event.getCommand());
+    }
+
+    /**
+     * Vanilla commands that set blocks fire no block events, the command runs right after this so every section is scanned again when queried next.
+     * Only the label is matched, and for execute the labels of the commands it runs
+     */
+    private void onCommand(String command) {
+        String[] arguments = command.trim().split(" +");
+        int index = 0;
+        while (index < arguments.length) {
+            String label = label(arguments[index]);
+            if (BLOCK_COMMANDS.contains(label)) {
+                chunks.clear();
+                return;
+            }
+            if (!label.equals("execute")) return;
+            do index++;
+            while (index < arguments.length && !arguments[index].equals("run"));
+            index++;
+        }
+    }
+
+    private static String label(String argument) {
+        String label = argument.startsWith("/") ? argument.substring(1) : argument;
+        return (label.startsWith("minecraft:") ? label.substring("minecraft:".length()) : label).toLowerCase(Locale.ROOT);
+    }
+
+    private void invalidateMoved(List<Block> blocks, BlockFace direction) {
+        for (Block block : blocks) {
+            if (block.getType() != material) continue;
+            invalidate(block.getWorld(), block.getX(), block.getY(), block.getZ());
+            Block moved = block.getRelative(direction);
+            invalidate(moved.getWorld(), moved.getX(), moved.getY(), moved.getZ());
+        }
+    }
+
+    /**
+     * Drops the section of a block that changed without Oraxen placing or removing it, it is scanned again when queried next
+     */
+    public void invalidate(World world, int x, int y, int z) {
+        Map<Integer, Section> sections = chunks.get(new ChunkKey(world.getUID(), x >> 4, z >> 4));
+        if (sections != null) sections.remove(y >> 4);
+    }
+
+    public void add(Block block, String itemID) {
+        Section section = getSection(block, false);
+        if (section != null) section.blocks.put(localKey(block.getX(), block.getY(), block.getZ()), itemID);
+    }
+
+    public void remove(Block block) {
+        Section section = getSection(block, false);
+        if (section != null) section.blocks.remove(localKey(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Counts the blocks of an item within a cube around a block, stopping once the limit is reached
+     *
+     * @return the amount of blocks found, at most the given limit
+     */
+    public int count(Block center, String itemID, int radius, int limit) {
+        World world = center.getWorld();
+        int minX = center.getX() - radius, maxX = center.getX() + radius;
+        int minY = Math.max(world.getMinHeight(), center.getY() - radius), maxY = Math.min(world.getMaxHeight() - 1, center.getY() + radius);
+        int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
+        if (minY > maxY) return 0;
+
+        long volume = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (volume <= (long) countSections(world, minX, minY, minZ, maxX, maxY, maxZ, false) * SECTION_VOLUME)
+            return countDirectly(world, itemID, limit, minX, minY, minZ, maxX, maxY, maxZ);
+
+        int count = countIndexed(world, itemID, limit, minX, minY, minZ, maxX, maxY, maxZ);
+        if (count >= limit) return count;
+
+        // Blocks added unnoticed are missing from the index, so an under-limit count is only trusted from recently scanned sections
+        int stale = countSections(world, minX, minY, minZ, maxX, maxY, maxZ, true);
+        if (stale == 0) return count;
+        if (volume <= (long) stale * SECTION_VOLUME)
+            return countDirectly(world, itemID, limit, minX, minY, minZ, maxX, maxY, maxZ);
+        dropStaleSections(world, minX, minY, minZ, maxX, maxY, maxZ);
+        return countIndexed(world, itemID, limit, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    private int countIndexed(World world, String itemID, int limit, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int count = 0;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) continue;
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    Section section = getSection(world, chunkX, sectionY, chunkZ, true);
+                    for (Map.Entry<Integer, String> entry : section.blocks.entrySet()) {
+                        if (!entry.getValue().equals(itemID)) continue;
+                        int local = entry.getKey();
+                        int x = (chunkX << 4) | (local & 0xF), z = (chunkZ << 4) | ((local >> 4) & 0xF), y = (sectionY << 4) | (local >> 8);
+                        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) continue;
+                        if (!isStillPlaced(world.getBlockAt(x, y, z), itemID)) continue;
+                        if (++count >= limit) return count;
+                    }
+                }
+            }
+        return count;
+    }
+
+    /**
+     * @return the amount of sections in the region that have not been scanned, or also were scanned too long ago if stale is true
+     */
+    private int countSections(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, boolean stale) {
+        long scannedBefore = System.currentTimeMillis() - REVERIFY_AFTER;
+        int count = 0;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) continue;
+                Map<Integer, Section> sections = chunks.get(new ChunkKey(world.getUID(), chunkX, chunkZ));
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    Section section = sections != null ? sections.get(sectionY) : null;
+                    if (section == null || (stale && section.scannedAt < scannedBefore)) count++;
+                }
+            }
+        return count;
+    }
+
+    private void dropStaleSections(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        long scannedBefore = System.currentTimeMillis() - REVERIFY_AFTER;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                Map<Integer, Section> sections = chunks.get(new ChunkKey(world.getUID(), chunkX, chunkZ));
+                if (sections == null) continue;
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    Section section = sections.get(sectionY);
+                    if (section != null && section.scannedAt < scannedBefore) sections.remove(sectionY, section);
+                }
+            }
+    }
+
+    private int countDirectly(World world, String itemID, int limit, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int count = 0;
+        for (int x = minX; x <= maxX; x++)
+            for (int z = minZ; z <= maxZ; z++) {
+                if (!world.isChunkLoaded(x >> 4, z >> 4)) continue;
+                for (int y = minY; y <= maxY; y++)
+                    if (isStillPlaced(world.getBlockAt(x, y, z), itemID) && ++count >= limit) return count;
+            }
+        return count;
+    }
+
+    private boolean isStillPlaced(Block block, String itemID) {
+        if (block.getType() != material) return false;
+        Mechanic mechanic = resolver.apply(block);
+        return mechanic != null && mechanic.getItemID().equals(itemID);
+    }
+
+    private Section getSection(Block block, boolean scan) {
+        return getSection(block.getWorld(), block.getX() >> 4, block.getY() >> 4, block.getZ() >> 4, scan);
+    }
+
+    private Section getSection(World world, int chunkX, int sectionY, int chunkZ, boolean scan) {
+        ChunkKey chunkKey = new ChunkKey(world.getUID(), chunkX, chunkZ);
+        Map<Integer, Section> sections = scan ? chunks.computeIfAbsent(chunkKey, k -> new ConcurrentHashMap<>()) : chunks.get(chunkKey);
+        if (sections == null) return null;
+        Section section = sections.get(sectionY);
+        if (section != null || !scan) return section;
+
+        section = new Section();
+        Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+        int minY = Math.max(world.getMinHeight(), sectionY << 4), maxY = Math.min(world.getMaxHeight() - 1, (sectionY << 4) + 15);
+        for (int y = minY; y <= maxY; y++)
+            for (int x = 0; x < 16; x++)
+                for (int z = 0; z < 16; z++) {
+                    Block block = chunk.getBlock(x, y, z);
+                    if (block.getType() != material) continue;
+                    Mechanic mechanic = resolver.apply(block);
+                    if (mechanic != null) section.blocks.put(localKey(x, y, z), mechanic.getItemID());
+                }
+        sections.put(sectionY, section);
+        return section;
+    }
+
+    private static int localKey(int x, int y, int z) {
+        return (x & 0xF) | (z & 0xF) << 4 | (y & 0xF) << 8;
+    }
+
+    private static final class Section {
+        private final Map<Integer, String> blocks = new HashMap<>();
+        private final long scannedAt = System.currentTimeMillis();
+    }
+
+    private record ChunkKey(UUID world, int x, int z) {
+        private static ChunkKey of(Chunk chunk) {
+            return new ChunkKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        }
+    }
+}
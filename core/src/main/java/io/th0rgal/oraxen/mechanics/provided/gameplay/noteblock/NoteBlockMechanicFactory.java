@@ -6,7 +6,9 @@ import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
 import io.th0rgal.oraxen.mechanics.MechanicsManager;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.PlacedBlockIndex;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.directional.DirectionalBlock;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.farmblock.FarmBlockListener;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.farmblock.FarmBlockTask;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.logstrip.LogStripListener;
 import io.th0rgal.oraxen.nms.NMSHandlers;
@@ -22,7 +24,9 @@ import org.bukkit.block.data.type.NoteBlock;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +35,9 @@ import java.util.Objects;
 public class NoteBlockMechanicFactory extends MechanicFactory {
 
     public static final Map<Integer, NoteBlockMechanic> BLOCK_PER_VARIATION = new HashMap<>();
+    // Flat copy of BLOCK_PER_VARIATION indexed by customVariation + 26, covering every noteblock state
+    private static final int VARIATION_OFFSET = 26;
+    private static final NoteBlockMechanic[] MECHANIC_PER_STATE = new NoteBlockMechanic[800];
     private static JsonObject variants;
     private static NoteBlockMechanicFactory instance;
     public final List<String> toolTypes;
@@ -39,10 +46,13 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
     public final int farmBlockCheckDelay;
     public final boolean customSounds;
     private final boolean removeMineableTag;
+    private final PlacedBlockIndex placedBlockIndex = new PlacedBlockIndex(Material.NOTE_BLOCK, OraxenBlocks::getNoteBlockMechanic);
 
     public NoteBlockMechanicFactory(ConfigurationSection section) {
         super(section);
         instance = this;
+        BLOCK_PER_VARIATION.clear();
+        Arrays.fill(MECHANIC_PER_STATE, null);
         variants = new JsonObject();
         variants.add("instrument=harp,powered=false", getModelJson("block/note_block"));
         toolTypes = section.getStringList("tool_types");
@@ -59,7 +69,8 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
         );
         MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(),
                 new NoteBlockMechanicListener(),
-                new LogStripListener()
+                new LogStripListener(),
+                placedBlockIndex
         );
         if (customSounds) MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new NoteBlockSoundListener());
 
@@ -148,9 +159,16 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
     }
 
     public static NoteBlockMechanic getBlockMechanic(int customVariation) {
+        int index = customVariation + VARIATION_OFFSET;
+        if (index >= 0 && index < MECHANIC_PER_STATE.length) return MECHANIC_PER_STATE[index];
         return BLOCK_PER_VARIATION.get(customVariation);
     }
 
+    public static NoteBlockMechanic getBlockMechanic(NoteBlock noteBlock) {
+        return getBlockMechanic(noteBlock.getInstrument().getType() * 25 + noteBlock.getNote().getId()
+                + (noteBlock.isPowered() ? 400 : 0) - VARIATION_OFFSET);
+    }
+
     public static boolean isEnabled() {
         return instance != null;
     }
@@ -172,7 +190,9 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
      */
     public static void setBlockModel(Block block, String itemId) {
         NoteBlockMechanic mechanic = OraxenBlocks.getNoteBlockMechanic(itemId);
-        if (mechanic != null) block.setBlockData(createNoteBlockData(mechanic.getCustomVariation()));
+        if (mechanic == null) return;
+        block.setBlockData(createNoteBlockData(mechanic.getCustomVariation()));
+        if (instance != null) instance.placedBlockIndex.add(block, mechanic.getItemID());
     }
 
     private String getBlockstateContent() {
@@ -203,6 +223,8 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
         }
 
         BLOCK_PER_VARIATION.put(mechanic.getCustomVariation(), mechanic);
+        int index = mechanic.getCustomVariation() + VARIATION_OFFSET;
+        if (index >= 0 && index < MECHANIC_PER_STATE.length) MECHANIC_PER_STATE[index] = mechanic;
         addToImplemented(mechanic);
         return mechanic;
     }
@@ -249,6 +271,16 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
         return createNoteBlockData(((NoteBlockMechanic) getInstance().getMechanic(itemID)).getCustomVariation());
     }
 
+    @Nullable
+    public static PlacedBlockIndex getPlacedBlockIndex() {
+        return instance != null ? instance.placedBlockIndex : null;
+    }
+
+    @Nullable
+    public static FarmBlockTask getFarmBlockTask() {
+        return farmBlockTask;
+    }
+
     public void registerFarmBlock() {
         if (farmBlock) return;
         if (farmBlockTask != null) {
@@ -270,6 +302,8 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
 //        if (farmblockList.isEmpty()) return;
 
         farmBlockTask = new FarmBlockTask(farmBlockCheckDelay);
+        farmBlockTask.getIndex().loadWorlds();
+        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new FarmBlockListener(farmBlockTask));
         BukkitTask task = farmBlockTask.runTaskTimer(OraxenPlugin.get(), 0, farmBlockCheckDelay);
         MechanicsManager.registerTask(getMechanicID(), task);
         farmBlock = true;
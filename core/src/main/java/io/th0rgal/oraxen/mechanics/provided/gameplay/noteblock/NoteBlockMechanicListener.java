@@ -7,6 +7,7 @@ import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.api.events.noteblock.OraxenNoteBlockInteractEvent;
 import io.th0rgal.oraxen.api.events.noteblock.OraxenNoteBlockPlaceEvent;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.LimitedPlacing;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.PlacedBlockIndex;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.directional.DirectionalBlock;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.storage.StorageMechanic;
 import io.th0rgal.oraxen.utils.*;
@@ -111,7 +112,7 @@ public class NoteBlockMechanicListener implements Listener {
             if (event.getEvent() != GameEvent.NOTE_BLOCK_PLAY) return;
             if (block.getType() != Material.NOTE_BLOCK) return;
             NoteBlock data = (NoteBlock) block.getBlockData().clone();
-            io.th0rgal.oraxen.utils.scheduler.OraxenScheduler.runTaskLater(OraxenPlugin.get(), () -> block.setBlockData(data, false), 1L);
+            BlockDataRestorer.restore(block, data);
         }
 
         public void updateAndCheck(Block block) {
@@ -152,15 +153,10 @@ public class NoteBlockMechanicListener implements Listener {
         if (limitedPlacing.isNotPlacableOn(block, blockFace)) event.setCancelled(true);
         else if (limitedPlacing.isRadiusLimited()) {
             LimitedPlacing.RadiusLimitation radiusLimitation = limitedPlacing.getRadiusLimitation();
-            int rad = radiusLimitation.getRadius();
+            PlacedBlockIndex index = NoteBlockMechanicFactory.getPlacedBlockIndex();
             int amount = radiusLimitation.getAmount();
-            int count = 0;
-            for (int x = -rad; x <= rad; x++) for (int y = -rad; y <= rad; y++) for (int z = -rad; z <= rad; z++) {
-                NoteBlockMechanic relativeMechanic = OraxenBlocks.getNoteBlockMechanic(block.getRelative(x, y, z));
-                if (relativeMechanic == null || !relativeMechanic.getItemID().equals(mechanic.getItemID())) continue;
-                count++;
-            }
-            if (count >= amount) event.setCancelled(true);
+            if (index != null && index.count(block, mechanic.getItemID(), radiusLimitation.getRadius(), amount) >= amount)
+                event.setCancelled(true);
         } else if (limitedPlacing.getType() == LimitedPlacing.LimitedPlacingType.ALLOW) {
             if (!limitedPlacing.checkLimitedMechanic(belowPlaced))
                 event.setCancelled(true);
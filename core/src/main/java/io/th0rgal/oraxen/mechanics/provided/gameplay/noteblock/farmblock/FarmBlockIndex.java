@@ -0,0 +1,133 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.farmblock;
+
+import com.jeff_media.customblockdata.CustomBlockData;
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.utils.BlockHelpers;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic.FARMBLOCK_KEY;
+
+/**
+ * Farm blocks of the currently loaded chunks, together with whether they were wet the last time they were checked.
+ * That state is only re-evaluated once a fluid, block or the weather changed around the farm block.
+ * Only accessed from the main thread
+ */
+public class FarmBlockIndex {
+
+    private final Map<ChunkKey, Map<Long, Entry>> chunks = new HashMap<>();
+
+    public void add(Block block) {
+        chunks.computeIfAbsent(ChunkKey.of(block), k -> new HashMap<>()).putIfAbsent(blockKey(block), new Entry(block));
+        markDirty(block);
+    }
+
+    public void remove(Block block) {
+        ChunkKey chunkKey = ChunkKey.of(block);
+        Map<Long, Entry> entries = chunks.get(chunkKey);
+        if (entries != null && entries.remove(blockKey(block)) != null && entries.isEmpty()) chunks.remove(chunkKey);
+        markDirty(block);
+    }
+
+    public void loadChunk(Chunk chunk) {
+        for (Block block : CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk))
+            if (BlockHelpers.getPDC(block).has(FARMBLOCK_KEY))
+                chunks.computeIfAbsent(ChunkKey.of(chunk), k -> new HashMap<>()).putIfAbsent(blockKey(block), new Entry(block));
+    }
+
+    public void unloadChunk(Chunk chunk) {
+        chunks.remove(ChunkKey.of(chunk));
+    }
+
+    public void loadWorlds() {
+        for (World world : Bukkit.getWorlds())
+            for (Chunk chunk : world.getLoadedChunks())
+                loadChunk(chunk);
+    }
+
+    public void clear() {
+        chunks.clear();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<Long, Entry> entries : chunks.values()) size += entries.size();
+        return size;
+    }
+
+    /**
+     * Flags the farm blocks whose water-connection or exposure to rain might have changed because of the given block.
+     * That is the farm blocks right next to it, the one above it and the ones below it in the same column
+     */
+    public void markDirty(Block changed) {
+        UUID world = changed.getWorld().getUID();
+        int x = changed.getX(), y = changed.getY(), z = changed.getZ();
+        for (int chunkX = (x - 1) >> 4; chunkX <= (x + 1) >> 4; chunkX++)
+            for (int chunkZ = (z - 1) >> 4; chunkZ <= (z + 1) >> 4; chunkZ++) {
+                Map<Long, Entry> entries = chunks.get(new ChunkKey(world, chunkX, chunkZ));
+                if (entries == null) continue;
+                for (Entry entry : entries.values()) {
+                    Block block = entry.block;
+                    int dx = Math.abs(block.getX() - x), dz = Math.abs(block.getZ() - z);
+                    if (dx > 1 || dz > 1) continue;
+                    if (block.getY() == y || block.getY() == y + 1 || (dx == 0 && dz == 0 && block.getY() < y))
+                        entry.dirty = true;
+                }
+            }
+    }
+
+    public void markDirty() {
+        chunks.values().forEach(entries -> entries.values().forEach(entry -> entry.dirty = true));
+    }
+
+    public void markDirty(World world) {
+        UUID uid = world.getUID();
+        chunks.forEach((chunkKey, entries) -> {
+            if (chunkKey.world.equals(uid)) entries.values().forEach(entry -> entry.dirty = true);
+        });
+    }
+
+    /**
+     * Runs the given check on every indexed farm block, dropping the ones it returns false for
+     */
+    void update(Predicate<Entry> check) {
+        Iterator<Map<Long, Entry>> iterator = chunks.values().iterator();
+        while (iterator.hasNext()) {
+            Map<Long, Entry> entries = iterator.next();
+            entries.values().removeIf(entry -> !check.test(entry));
+            if (entries.isEmpty()) iterator.remove();
+        }
+    }
+
+    private static long blockKey(Block block) {
+        return ((long) block.getY() << 8) | ((block.getX() & 15L) << 4) | (block.getZ() & 15L);
+    }
+
+    static final class Entry {
+        final Block block;
+        boolean wet = false;
+        boolean dirty = true;
+
+        private Entry(Block block) {
+            this.block = block;
+        }
+    }
+
+    private record ChunkKey(UUID world, int x, int z) {
+        private static ChunkKey of(Chunk chunk) {
+            return new ChunkKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        }
+
+        private static ChunkKey of(Block block) {
+            return new ChunkKey(block.getWorld().getUID(), block.getX() >> 4, block.getZ() >> 4);
+        }
+    }
+}
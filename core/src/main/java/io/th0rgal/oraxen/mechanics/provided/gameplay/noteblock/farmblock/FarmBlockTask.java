@@ -1,14 +1,9 @@
 package io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.farmblock;
 
-import com.jeff_media.customblockdata.CustomBlockData;
-import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanicFactory;
 import io.th0rgal.oraxen.utils.BlockHelpers;
-import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
-import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
@@ -17,16 +12,32 @@ import org.bukkit.scheduler.BukkitRunnable;
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic.FARMBLOCK_KEY;
 
 public class FarmBlockTask extends BukkitRunnable {
+    // Every farm block is checked again this often, as blocks changed by WorldEdit or other plugins fire no event
+    private static final int REVALIDATION_PERIOD = 6000;
     private final int delay;
+    private final FarmBlockIndex index = new FarmBlockIndex();
+    private int ticksSinceRevalidation = 0;
 
     public FarmBlockTask(int delay) {
         this.delay = delay;
     }
 
-    private boolean isAreaWet(FarmBlockDryout mechanic, Block block, PersistentDataContainer pdc) {
+    public FarmBlockIndex getIndex() {
+        return index;
+    }
+
+    private boolean isAreaWet(FarmBlockIndex.Entry entry, FarmBlockDryout mechanic, PersistentDataContainer pdc) {
+        if (!entry.dirty) return entry.wet;
+        Block block = entry.block;
+        byte previousMoisture = mechanic.getMoistureLevel(block);
         boolean nearWater = mechanic.isConnectedToWaterSource(block, pdc);
-        boolean rainingAtBlock = block.getWorld().hasStorm() && block.getWorld().getHighestBlockAt(block.getLocation()) == block;
-        return nearWater || rainingAtBlock;
+        boolean rainingAtBlock = block.getWorld().hasStorm() && block.getWorld().getHighestBlockAt(block.getLocation()).equals(block);
+        // Neighbouring farm blocks draw moisture from this one
+        if (mechanic.getMoistureLevel(block) != previousMoisture) index.markDirty(block);
+
+        entry.wet = nearWater || rainingAtBlock;
+        entry.dirty = false;
+        return entry.wet;
     }
 
     private void updateBlockModel(Block block, PersistentDataContainer pdc, String model) {
@@ -34,34 +45,50 @@ public class FarmBlockTask extends BukkitRunnable {
         NoteBlockMechanicFactory.setBlockModel(block, model);
     }
 
-    private void updateBlock(Block block, PersistentDataContainer pdc) {
-        if (pdc.getKeys().contains(FARMBLOCK_KEY)) {
-            NoteBlockMechanic mechanic = OraxenBlocks.getNoteBlockMechanic(block);
-            if (mechanic != null && mechanic.hasDryout()) {
-                FarmBlockDryout farmMechanic = mechanic.getDryout();
+    /**
+     * @return whether the block is still a farm block and should stay indexed
+     */
+    private boolean updateBlock(FarmBlockIndex.Entry entry) {
+        Block block = entry.block;
+        PersistentDataContainer pdc = BlockHelpers.getPDC(block);
+        if (!pdc.has(FARMBLOCK_KEY)) return false;
+
+        NoteBlockMechanic mechanic = OraxenBlocks.getNoteBlockMechanic(block);
+        if (mechanic == null || !mechanic.hasDryout()) {
+            //Remove FARMBLOCK_KEY from pdc if the block has no (longer a) dryout mechanic
+            pdc.remove(FARMBLOCK_KEY);
+            return false;
+        }
+        FarmBlockDryout farmMechanic = mechanic.getDryout();
 
-                if (isAreaWet(farmMechanic, block, pdc)) {
-                    if (pdc.has(FARMBLOCK_KEY, PersistentDataType.STRING))
-                        updateBlockModel(block, pdc, farmMechanic.getMoistFarmBlock());
-                    pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0);
-                } else if (pdc.has(FARMBLOCK_KEY, PersistentDataType.INTEGER)) {
-                    int moistTimerRemain = pdc.getOrDefault(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0) + delay;
-                    if (farmMechanic.getDryoutTime() - moistTimerRemain <= 0) {
-                        updateBlockModel(block, pdc, farmMechanic.getFarmBlock());
-                        pdc.set(FARMBLOCK_KEY, PersistentDataType.STRING, farmMechanic.getFarmBlock());
-                    } else
-                        pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, moistTimerRemain);
-                }
-            } else //Remove FARMBLOCK_KEY from pdc if the block has no (longer a) dryout mechanic
-                pdc.remove(FARMBLOCK_KEY);
+        if (isAreaWet(entry, farmMechanic, pdc)) {
+            if (pdc.has(FARMBLOCK_KEY, PersistentDataType.STRING))
+                updateBlockModel(block, pdc, farmMechanic.getMoistFarmBlock());
+            pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0);
+        } else if (pdc.has(FARMBLOCK_KEY, PersistentDataType.INTEGER)) {
+            int moistTimerRemain = pdc.getOrDefault(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0) + delay;
+            if (farmMechanic.getDryoutTime() - moistTimerRemain <= 0) {
+                updateBlockModel(block, pdc, farmMechanic.getFarmBlock());
+                pdc.set(FARMBLOCK_KEY, PersistentDataType.STRING, farmMechanic.getFarmBlock());
+            } else
+                pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, moistTimerRemain);
         }
+        return true;
     }
 
     @Override
     public void run() {
-        for (World world : Bukkit.getWorlds())
-            for (Chunk chunk : world.getLoadedChunks())
-                CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk).forEach(block ->
-                        updateBlock(block, BlockHelpers.getPDC(block)));
+        ticksSinceRevalidation += delay;
+        if (ticksSinceRevalidation >= REVALIDATION_PERIOD) {
+            ticksSinceRevalidation = 0;
+            index.markDirty();
+        }
+        index.update(this::updateBlock);
+    }
+
+    @Override
+    public synchronized void cancel() throws IllegalStateException {
+        index.clear();
+        super.cancel();
     }
 }
@@ -2,9 +2,12 @@ package io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock;
 
 import com.google.gson.JsonObject;
 import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenBlocks;
+import io.th0rgal.oraxen.compatibilities.provided.worldedit.WrappedWorldEdit;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
 import io.th0rgal.oraxen.mechanics.MechanicsManager;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.PlacedBlockIndex;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling.SaplingListener;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling.SaplingTask;
 import io.th0rgal.oraxen.nms.NMSHandlers;
@@ -19,6 +22,7 @@ import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.type.Tripwire;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -28,6 +32,8 @@ import java.util.Map;
 public class StringBlockMechanicFactory extends MechanicFactory {
 
     public static final Map<Integer, StringBlockMechanic> BLOCK_PER_VARIATION = new HashMap<>();
+    // Flat copy of BLOCK_PER_VARIATION indexed by customVariation, covering every tripwire state
+    private static final StringBlockMechanic[] MECHANIC_PER_STATE = new StringBlockMechanic[128];
     private static JsonObject variants;
     private static StringBlockMechanicFactory instance;
     public final List<String> toolTypes;
@@ -36,15 +42,19 @@ public class StringBlockMechanicFactory extends MechanicFactory {
     private final int saplingGrowthCheckDelay;
     public final boolean customSounds;
     public final boolean disableVanillaString;
+    private final PlacedBlockIndex placedBlockIndex = new PlacedBlockIndex(Material.TRIPWIRE, OraxenBlocks::getStringMechanic);
 
     public StringBlockMechanicFactory(ConfigurationSection section) {
         super(section);
         instance = this;
+        BLOCK_PER_VARIATION.clear();
+        Arrays.fill(MECHANIC_PER_STATE, null);
         variants = new JsonObject();
         variants.add("east=false,west=false,south=false,north=false,attached=false,disarmed=false,powered=false", getModelJson("block/barrier"));
         toolTypes = section.getStringList("tool_types");
         saplingGrowthCheckDelay = section.getInt("sapling_growth_check_delay");
         sapling = false;
+        WrappedWorldEdit.clearSchematicCache();
         customSounds = OraxenPlugin.get().getConfigsManager().getMechanics().getConfigurationSection("custom_block_sounds").getBoolean("stringblock_and_furniture", true);
         disableVanillaString = section.getBoolean("disable_vanilla_strings", true);
 
@@ -56,7 +66,7 @@ public class StringBlockMechanicFactory extends MechanicFactory {
                                 .writeStringToVirtual("assets/minecraft/blockstates",
                                         "tripwire.json", getBlockstateContent())
         );
-        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new StringBlockMechanicListener(), new SaplingListener());
+        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new StringBlockMechanicListener(), new SaplingListener(), placedBlockIndex);
         if (customSounds) MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new StringBlockSoundListener());
 
         // Physics-related stuff
@@ -90,6 +100,7 @@ public class StringBlockMechanicFactory extends MechanicFactory {
 
     @org.jetbrains.annotations.Nullable
     public static StringBlockMechanic getBlockMechanic(int customVariation) {
+        if (customVariation >= 0 && customVariation < MECHANIC_PER_STATE.length) return MECHANIC_PER_STATE[customVariation];
         return BLOCK_PER_VARIATION.get(customVariation);
     }
 
@@ -101,6 +112,11 @@ public class StringBlockMechanicFactory extends MechanicFactory {
         return instance;
     }
 
+    @Nullable
+    public static PlacedBlockIndex getPlacedBlockIndex() {
+        return instance != null ? instance.placedBlockIndex : null;
+    }
+
 
     /**
      * Attempts to set the block directly to the model and texture of an Oraxen item.
@@ -112,6 +128,7 @@ public class StringBlockMechanicFactory extends MechanicFactory {
         final MechanicFactory mechanicFactory = MechanicsManager.getMechanicFactory("stringblock");
         StringBlockMechanic stringBlockMechanic = (StringBlockMechanic) mechanicFactory.getMechanic(itemId);
         block.setBlockData(createTripwireData(stringBlockMechanic.getCustomVariation()));
+        if (instance != null) instance.placedBlockIndex.add(block, stringBlockMechanic.getItemID());
     }
 
     private String getBlockstateContent() {
@@ -131,6 +148,8 @@ public class StringBlockMechanicFactory extends MechanicFactory {
                 getModelJson(mechanic.getModel(itemMechanicConfiguration.getParent()
                         .getParent())));
         BLOCK_PER_VARIATION.put(mechanic.getCustomVariation(), mechanic);
+        if (mechanic.getCustomVariation() >= 0 && mechanic.getCustomVariation() < MECHANIC_PER_STATE.length)
+            MECHANIC_PER_STATE[mechanic.getCustomVariation()] = mechanic;
         addToImplemented(mechanic);
         return mechanic;
     }
@@ -146,17 +165,14 @@ public class StringBlockMechanicFactory extends MechanicFactory {
     }
 
     public static int getCode(final Tripwire blockData) {
-        final List<BlockFace> properties = Arrays
-                .asList(BlockFace.EAST, BlockFace.WEST, BlockFace.SOUTH, BlockFace.NORTH);
         int sum = 0;
-        for (final BlockFace blockFace : blockData.getFaces())
-            sum += (int) Math.pow(2, properties.indexOf(blockFace));
-        if (blockData.isAttached())
-            sum += (int) Math.pow(2, 4);
-        if (blockData.isDisarmed())
-            sum += (int) Math.pow(2, 5);
-        if (blockData.isPowered())
-            sum += (int) Math.pow(2, 6);
+        if (blockData.hasFace(BlockFace.EAST)) sum |= 1;
+        if (blockData.hasFace(BlockFace.WEST)) sum |= 1 << 1;
+        if (blockData.hasFace(BlockFace.SOUTH)) sum |= 1 << 2;
+        if (blockData.hasFace(BlockFace.NORTH)) sum |= 1 << 3;
+        if (blockData.isAttached()) sum |= 1 << 4;
+        if (blockData.isDisarmed()) sum |= 1 << 5;
+        if (blockData.isPowered()) sum |= 1 << 6;
         return sum;
     }
 
@@ -190,6 +206,11 @@ public class StringBlockMechanicFactory extends MechanicFactory {
         return createTripwireData(((StringBlockMechanic) getInstance().getMechanic(itemID)).getCustomVariation());
     }
 
+    @Nullable
+    public static SaplingTask getSaplingTask() {
+        return saplingTask;
+    }
+
     public void registerSaplingMechanic() {
         if (sapling) return;
         if (saplingTask != null) {
@@ -212,7 +233,8 @@ public class StringBlockMechanicFactory extends MechanicFactory {
 //        if (saplingList.isEmpty()) return;
 
         saplingTask = new SaplingTask(saplingGrowthCheckDelay);
-        saplingTask.runTaskTimer(OraxenPlugin.get(), 0, saplingGrowthCheckDelay);
+        saplingTask.loadWorlds();
+        saplingTask.runTaskTimer(OraxenPlugin.get(), 0, 1);
         sapling = true;
     }
 }
@@ -8,6 +8,7 @@ import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.api.events.stringblock.OraxenStringBlockInteractEvent;
 import io.th0rgal.oraxen.api.events.stringblock.OraxenStringBlockPlaceEvent;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.LimitedPlacing;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.limitedplacing.PlacedBlockIndex;
 import io.th0rgal.oraxen.utils.*;
 import io.th0rgal.oraxen.utils.breaker.BreakerSystem;
 import io.th0rgal.oraxen.utils.breaker.HardnessModifier;
@@ -78,7 +79,7 @@ public class StringBlockMechanicListener implements Listener {
                     continue;
 
                 final BlockData data = changed.getBlockData().clone();
-                io.th0rgal.oraxen.utils.scheduler.OraxenScheduler.runTaskLater(OraxenPlugin.get(), () -> changed.setBlockData(data, false), 1L);
+                BlockDataRestorer.restore(changed, data);
             }
         }
 
@@ -187,19 +188,9 @@ public class StringBlockMechanicListener implements Listener {
             event.setCancelled(true);
         else if (limitedPlacing.isRadiusLimited()) {
             LimitedPlacing.RadiusLimitation radiusLimitation = limitedPlacing.getRadiusLimitation();
-            int rad = radiusLimitation.getRadius();
+            PlacedBlockIndex index = StringBlockMechanicFactory.getPlacedBlockIndex();
             int amount = radiusLimitation.getAmount();
-            int count = 0;
-            for (int x = -rad; x <= rad; x++)
-                for (int y = -rad; y <= rad; y++)
-                    for (int z = -rad; z <= rad; z++) {
-                        StringBlockMechanic relativeMechanic = OraxenBlocks
-                                .getStringMechanic(block.getRelative(x, y, z));
-                        if (relativeMechanic == null || !relativeMechanic.getItemID().equals(mechanic.getItemID()))
-                            continue;
-                        count++;
-                    }
-            if (count >= amount)
+            if (index != null && index.count(block, mechanic.getItemID(), radiusLimitation.getRadius(), amount) >= amount)
                 event.setCancelled(true);
         } else if (limitedPlacing.getType() == LimitedPlacing.LimitedPlacingType.ALLOW) {
             if (!limitedPlacing.checkLimitedMechanic(belowPlaced))
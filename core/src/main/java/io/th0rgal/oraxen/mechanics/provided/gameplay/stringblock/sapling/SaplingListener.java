@@ -3,6 +3,7 @@ package io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling;
 import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.compatibilities.provided.worldedit.WrappedWorldEdit;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanic;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanicFactory;
 import io.th0rgal.oraxen.utils.BlockHelpers;
 import io.th0rgal.oraxen.utils.PluginUtils;
 import org.bukkit.Effect;
@@ -16,6 +17,8 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -25,6 +28,18 @@ import static io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling.
 
 public class SaplingListener implements Listener {
 
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        SaplingTask saplingTask = StringBlockMechanicFactory.getSaplingTask();
+        if (saplingTask != null) saplingTask.loadChunk(event.getChunk());
+    }
+
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        SaplingTask saplingTask = StringBlockMechanicFactory.getSaplingTask();
+        if (saplingTask != null) saplingTask.unloadChunk(event.getChunk());
+    }
+
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBoneMeal(PlayerInteractEvent event) {
         Block block = event.getClickedBlock();
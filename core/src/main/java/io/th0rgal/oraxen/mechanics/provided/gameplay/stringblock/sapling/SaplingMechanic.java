@@ -23,6 +23,8 @@ public class SaplingMechanic {
     private final boolean shouldReplaceBlocks;
     private final boolean shouldCopyBiomes;
     private final boolean shouldCopyEntities;
+    private File schematic;
+    private boolean schematicResolved = false;
 
     public SaplingMechanic(String itemId, ConfigurationSection section) {
         canGrowNaturally = section.getBoolean("canGrowNaturally", true);
@@ -83,10 +85,16 @@ public class SaplingMechanic {
         else return schematicName + ".schem";
     }
 
+    /**
+     * @return the schematic-file of this sapling, looked up once per load of the mechanic
+     */
     public File getSchematic() {
-        File schem = new File(OraxenPlugin.get().getConfigsManager().getSchematicsFolder().getAbsolutePath() + "/" + getSchematicName());
-        if (!schem.exists()) return null;
-        else return schem;
+        if (!schematicResolved) {
+            File schem = new File(OraxenPlugin.get().getConfigsManager().getSchematicsFolder().getAbsolutePath() + "/" + getSchematicName());
+            schematic = schem.exists() ? schem : null;
+            schematicResolved = true;
+        }
+        return schematic;
     }
 
     public boolean replaceBlocks() { return shouldReplaceBlocks; }
@@ -0,0 +1,121 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling;
+
+import com.jeff_media.customblockdata.CustomBlockData;
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.utils.BlockHelpers;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import static io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling.SaplingMechanic.SAPLING_KEY;
+
+/**
+ * Saplings of the currently loaded chunks, ordered by the tick they are next due to be checked.
+ * Unloaded or removed saplings are flagged and dropped once they reach the head of the queue.
+ * Only accessed from the main thread
+ */
+public class SaplingQueue {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.dueTick));
+    private final Map<ChunkKey, Map<Long, Entry>> chunks = new HashMap<>();
+
+    public void add(Block block, long tick, long dueTick) {
+        Map<Long, Entry> entries = chunks.computeIfAbsent(ChunkKey.of(block), k -> new HashMap<>());
+        if (entries.containsKey(blockKey(block))) return;
+        Entry entry = new Entry(block, tick, dueTick);
+        entries.put(blockKey(block), entry);
+        queue.add(entry);
+    }
+
+    public void remove(Block block) {
+        ChunkKey chunkKey = ChunkKey.of(block);
+        Map<Long, Entry> entries = chunks.get(chunkKey);
+        if (entries == null) return;
+        Entry entry = entries.remove(blockKey(block));
+        if (entry != null) entry.removed = true;
+        if (entries.isEmpty()) chunks.remove(chunkKey);
+    }
+
+    public void loadChunk(Chunk chunk, long tick, long dueTick) {
+        for (Block block : CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk))
+            if (BlockHelpers.getPDC(block).has(SAPLING_KEY, PersistentDataType.INTEGER))
+                add(block, tick, dueTick);
+    }
+
+    public void unloadChunk(Chunk chunk) {
+        Map<Long, Entry> entries = chunks.remove(ChunkKey.of(chunk));
+        if (entries != null) entries.values().forEach(entry -> entry.removed = true);
+    }
+
+    public void loadWorlds(long tick, long dueTick) {
+        for (World world : Bukkit.getWorlds())
+            for (Chunk chunk : world.getLoadedChunks())
+                loadChunk(chunk, tick, dueTick);
+    }
+
+    public void clear() {
+        queue.clear();
+        chunks.clear();
+    }
+
+    /**
+     * @return the sapling due the earliest if it is due at the given tick
+     */
+    @Nullable
+    Entry pollDue(long tick) {
+        Entry entry;
+        while ((entry = queue.peek()) != null) {
+            if (entry.removed) queue.poll();
+            else if (entry.dueTick > tick) return null;
+            else return queue.poll();
+        }
+        return null;
+    }
+
+    void reschedule(Entry entry, long tick, long dueTick) {
+        if (entry.removed) return;
+        entry.lastCheck = tick;
+        entry.dueTick = dueTick;
+        queue.add(entry);
+    }
+
+    void remove(Entry entry) {
+        if (!entry.removed) remove(entry.block);
+    }
+
+    private static long blockKey(Block block) {
+        return ((long) block.getY() << 8) | ((block.getX() & 15L) << 4) | (block.getZ() & 15L);
+    }
+
+    static final class Entry {
+        final Block block;
+        long lastCheck;
+        long dueTick;
+        boolean removed = false;
+
+        private Entry(Block block, long lastCheck, long dueTick) {
+            this.block = block;
+            this.lastCheck = lastCheck;
+            this.dueTick = dueTick;
+        }
+    }
+
+    private record ChunkKey(UUID world, int x, int z) {
+        private static ChunkKey of(Chunk chunk) {
+            return new ChunkKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        }
+
+        private static ChunkKey of(Block block) {
+            return new ChunkKey(block.getWorld().getUID(), block.getX() >> 4, block.getZ() >> 4);
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling;
 
-import com.jeff_media.customblockdata.CustomBlockData;
-import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.compatibilities.provided.worldedit.WrappedWorldEdit;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanic;
 import io.th0rgal.oraxen.utils.BlockHelpers;
 import io.th0rgal.oraxen.utils.PluginUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Material;
-import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
@@ -18,45 +14,90 @@ import org.bukkit.scheduler.BukkitRunnable;
 
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling.SaplingMechanic.SAPLING_KEY;
 
+/**
+ * Runs every tick and only checks the saplings of the {@link SaplingQueue} that are due.
+ * A sapling is checked at least every delay-ticks, or earlier if it will have finished growing by then
+ */
 public class SaplingTask extends BukkitRunnable {
 
     private final int delay;
+    private final SaplingQueue queue = new SaplingQueue();
+    private long tick = 0;
 
     public SaplingTask(int delay) {
-        this.delay = delay;
+        this.delay = Math.max(1, delay);
+    }
+
+    public void track(Block block) {
+        queue.add(block, tick, tick + delay);
+    }
+
+    public void untrack(Block block) {
+        queue.remove(block);
+    }
+
+    public void loadChunk(Chunk chunk) {
+        queue.loadChunk(chunk, tick, tick + delay);
+    }
+
+    public void unloadChunk(Chunk chunk) {
+        queue.unloadChunk(chunk);
+    }
+
+    public void loadWorlds() {
+        queue.loadWorlds(tick, tick + delay);
     }
 
     @Override
     public void run() {
+        tick++;
         if (!PluginUtils.isEnabled("WorldEdit")) return;
-        for (World world : Bukkit.getWorlds()) {
-            for (Chunk chunk : world.getLoadedChunks()) {
-                for (Block block : CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk)) {
-                    PersistentDataContainer pdc = BlockHelpers.getPDC(block);
-                    if (pdc.has(SAPLING_KEY, PersistentDataType.INTEGER) && block.getType() == Material.TRIPWIRE) {
-                        StringBlockMechanic string = OraxenBlocks.getStringMechanic(block);
-                        if (string == null || !string.isSapling()) return;
-
-                        SaplingMechanic sapling = string.getSaplingMechanic();
-                        if (sapling == null || !sapling.hasSchematic()) continue;
-                        if (!sapling.canGrowNaturally()) continue;
-                        if (sapling.requiresWaterSource() && !sapling.isUnderWater(block)) continue;
-                        if (sapling.requiresLight() && block.getLightLevel() < sapling.getMinLightLevel()) continue;
-                        if (!sapling.replaceBlocks() && !WrappedWorldEdit.getBlocksInSchematic(block.getLocation(), sapling.getSchematic()).isEmpty()) continue;
-
-                        int growthTimeRemains = pdc.getOrDefault(SAPLING_KEY, PersistentDataType.INTEGER, 0) - delay;
-                        if (growthTimeRemains <= 0) {
-                            block.setType(Material.AIR, false);
-                            if (sapling.hasGrowSound())
-                                block.getWorld().playSound(block.getLocation(), sapling.getGrowSound(), 1.0f, 0.8f);
-                            WrappedWorldEdit.pasteSchematic(block.getLocation(), sapling.getSchematic(), sapling.replaceBlocks(), sapling.copyBiomes(), sapling.copyEntities());
-                        } else pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, growthTimeRemains);
-                    }
-                    else if (pdc.has(SAPLING_KEY, PersistentDataType.INTEGER) && block.getType() != Material.TRIPWIRE) {
-                        pdc.remove(SAPLING_KEY);
-                    }
-                }
-            }
+
+        SaplingQueue.Entry entry;
+        while ((entry = queue.pollDue(tick)) != null) {
+            int nextCheck = updateSapling(entry.block, (int) (tick - entry.lastCheck));
+            if (nextCheck > 0) queue.reschedule(entry, tick, tick + nextCheck);
+            else queue.remove(entry);
+        }
+    }
+
+    @Override
+    public synchronized void cancel() throws IllegalStateException {
+        queue.clear();
+        super.cancel();
+    }
+
+    /**
+     * @return the ticks until the sapling should be checked again, or 0 if it grew or is no longer a sapling
+     */
+    private int updateSapling(Block block, int elapsed) {
+        PersistentDataContainer pdc = BlockHelpers.getPDC(block);
+        if (!pdc.has(SAPLING_KEY, PersistentDataType.INTEGER)) return 0;
+        if (block.getType() != Material.TRIPWIRE) {
+            pdc.remove(SAPLING_KEY);
+            return 0;
+        }
+
+        StringBlockMechanic string = OraxenBlocks.getStringMechanic(block);
+        if (string == null || !string.isSapling()) return 0;
+
+        SaplingMechanic sapling = string.getSaplingMechanic();
+        if (sapling == null || !sapling.hasSchematic()) return 0;
+        if (!sapling.canGrowNaturally()) return 0;
+        if (sapling.requiresWaterSource() && !sapling.isUnderWater(block)) return delay;
+        if (sapling.requiresLight() && block.getLightLevel() < sapling.getMinLightLevel()) return delay;
+        if (!sapling.replaceBlocks() && !WrappedWorldEdit.getBlocksInSchematic(block.getLocation(), sapling.getSchematic()).isEmpty())
+            return delay;
+
+        int growthTimeRemains = pdc.getOrDefault(SAPLING_KEY, PersistentDataType.INTEGER, 0) - elapsed;
+        if (growthTimeRemains <= 0) {
+            block.setType(Material.AIR, false);
+            if (sapling.hasGrowSound())
+                block.getWorld().playSound(block.getLocation(), sapling.getGrowSound(), 1.0f, 0.8f);
+            WrappedWorldEdit.pasteSchematic(block.getLocation(), sapling.getSchematic(), sapling.replaceBlocks(), sapling.copyBiomes(), sapling.copyEntities());
+            return 0;
         }
+        pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, growthTimeRemains);
+        return Math.min(delay, growthTimeRemains);
     }
 }
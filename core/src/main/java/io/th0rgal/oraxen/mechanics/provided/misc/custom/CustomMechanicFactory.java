@@ -1,13 +1,19 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom;
 
+import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
+import io.th0rgal.oraxen.mechanics.MechanicsManager;
+import io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners.CustomEventDispatcher;
 import org.bukkit.configuration.ConfigurationSection;
 
 public class CustomMechanicFactory extends MechanicFactory {
 
     public CustomMechanicFactory(ConfigurationSection section) {
         super(section);
+        // Items register their listeners again when they are parsed
+        CustomEventDispatcher.clear();
+        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new CustomEventDispatcher());
     }
 
     @Override
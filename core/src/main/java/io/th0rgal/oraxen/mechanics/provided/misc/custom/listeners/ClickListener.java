@@ -1,12 +1,8 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.Action;
-import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -58,14 +54,8 @@ public class ClickListener extends CustomListener {
         }
     }
 
-    @EventHandler
-    public void onClicked(PlayerInteractEvent event) {
-        if (interactActions.contains(event.getAction())) {
-            ItemStack item = event.getItem();
-            if (!itemID.equals(OraxenItems.getIdByItem(item)))
-                return;
-            perform(event.getPlayer(), item);
-        }
+    public boolean matches(Action action) {
+        return interactActions.contains(action);
     }
 
 }
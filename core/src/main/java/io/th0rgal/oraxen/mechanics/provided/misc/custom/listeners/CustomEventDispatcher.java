@@ -0,0 +1,121 @@
+package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
+
+import io.th0rgal.oraxen.api.OraxenItems;
+import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEventType;
+import io.th0rgal.oraxen.utils.armorequipevent.ArmorEquipEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single Bukkit listener for every {@link CustomListener}.
+ * Resolves the item of an event once and only runs the listeners registered for that item and event type.
+ */
+public class CustomEventDispatcher implements Listener {
+
+    private static final Map<CustomEventType, Map<String, List<CustomListener>>> LISTENERS = new EnumMap<>(CustomEventType.class);
+
+    static void register(CustomListener listener) {
+        LISTENERS.computeIfAbsent(listener.event.type, type -> new HashMap<>())
+                .computeIfAbsent(listener.itemID, itemID -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    static void unregister(CustomListener listener) {
+        Map<String, List<CustomListener>> listenersByItem = LISTENERS.get(listener.event.type);
+        if (listenersByItem == null) return;
+        List<CustomListener> listeners = listenersByItem.get(listener.itemID);
+        if (listeners != null && listeners.remove(listener) && listeners.isEmpty())
+            listenersByItem.remove(listener.itemID);
+    }
+
+    public static void clear() {
+        LISTENERS.clear();
+    }
+
+    private static List<CustomListener> getListeners(CustomEventType type, ItemStack item) {
+        Map<String, List<CustomListener>> listenersByItem = LISTENERS.get(type);
+        if (listenersByItem == null || listenersByItem.isEmpty() || item == null) return List.of();
+        String itemID = OraxenItems.getIdByItem(item);
+        List<CustomListener> listeners = itemID != null ? listenersByItem.get(itemID) : null;
+        return listeners != null ? listeners : List.of();
+    }
+
+    /**
+     * Runs the listeners in order, stopping once one of them consumed the item
+     */
+    private static void perform(List<CustomListener> listeners, Player player, ItemStack item) {
+        for (CustomListener listener : listeners) {
+            listener.perform(player, item);
+            if (isConsumed(item)) return;
+        }
+    }
+
+    private static boolean isConsumed(ItemStack item) {
+        return item.getAmount() <= 0;
+    }
+
+    @EventHandler
+    public void onBroken(PlayerItemBreakEvent event) {
+        ItemStack item = event.getBrokenItem();
+        perform(getListeners(CustomEventType.BREAK, item), event.getPlayer(), item);
+    }
+
+    @EventHandler
+    public void onClicked(PlayerInteractEvent event) {
+        ItemStack item = event.getItem();
+        for (CustomListener listener : getListeners(CustomEventType.CLICK, item)) {
+            if (listener instanceof ClickListener clickListener && !clickListener.matches(event.getAction())) continue;
+            listener.perform(event.getPlayer(), item);
+            if (isConsumed(item)) break;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onInvClick(InventoryClickEvent event) {
+        ItemStack clicked = event.getCurrentItem();
+        perform(getListeners(CustomEventType.INV_CLICK, clicked), (Player) event.getWhoClicked(), clicked);
+    }
+
+    @EventHandler
+    public void onDropped(PlayerDropItemEvent event) {
+        ItemStack item = event.getItemDrop().getItemStack();
+        perform(getListeners(CustomEventType.DROP, item), event.getPlayer(), item);
+    }
+
+    @EventHandler
+    public void onPickedUp(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player player)) return;
+        ItemStack item = event.getItem().getItemStack();
+        perform(getListeners(CustomEventType.PICKUP, item), player, item);
+    }
+
+    @EventHandler
+    public void onArmorChange(final ArmorEquipEvent event) {
+        ItemStack newArmor = event.getNewArmorPiece();
+        perform(getListeners(CustomEventType.EQUIP, newArmor), event.getPlayer(), newArmor);
+
+        ItemStack oldArmor = event.getOldArmorPiece();
+        perform(getListeners(CustomEventType.UNEQUIP, oldArmor), event.getPlayer(), oldArmor);
+    }
+
+    @EventHandler
+    public void onDeath(PlayerDeathEvent event) {
+        if (!LISTENERS.containsKey(CustomEventType.DEATH)) return;
+        for (ItemStack drop : event.getDrops())
+            perform(getListeners(CustomEventType.DEATH, drop), event.getEntity().getPlayer(), drop);
+    }
+}
@@ -1,17 +1,13 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
 import io.th0rgal.oraxen.utils.timers.Timer;
 import io.th0rgal.oraxen.utils.timers.TimersFactory;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
-public abstract class CustomListener implements Listener {
+public abstract class CustomListener {
 
     protected final String itemID;
     protected final TimersFactory timers;
@@ -27,15 +23,16 @@ public abstract class CustomListener implements Listener {
     }
 
     public void register() {
-        Bukkit.getPluginManager().registerEvents(this, OraxenPlugin.get());
+        CustomEventDispatcher.register(this);
     }
 
     public void unregister() {
-        HandlerList.unregisterAll(this);
+        CustomEventDispatcher.unregister(this);
     }
 
     public void perform(Player player, ItemStack itemStack) {
-        if (!clickAction.canRun(player)) return;
+        // A one_usage listener before this one might have consumed the item already
+        if (itemStack.getAmount() <= 0 || !clickAction.canRun(player)) return;
 
         final Timer playerTimer = timers.getTimer(player);
 
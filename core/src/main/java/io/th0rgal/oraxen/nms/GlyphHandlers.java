@@ -5,21 +5,17 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.config.Settings;
-import io.th0rgal.oraxen.font.Glyph;
+import io.th0rgal.oraxen.font.GlyphMatcher;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.logs.Logs;
-import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextReplacementConfig;
 import net.kyori.adventure.translation.GlobalTranslator;
-import org.apache.commons.lang3.StringUtils;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class GlyphHandlers {
 
@@ -37,6 +33,59 @@ public class GlyphHandlers {
         }
     }
 
+    private static final LongAdder prefilterHits = new LongAdder();
+    private static final LongAdder prefilterMisses = new LongAdder();
+    private static volatile JsonComponentCache jsonCache;
+
+    /**
+     * Cheap check ran before any parsing, so strings without glyph-tags, placeholders or glyph-characters
+     * can be written straight through. Strings containing unicode-escapes are always passed on, as they might hide a tag
+     * @return whether the string might need to be rewritten
+     */
+    public static boolean mightContainGlyphs(@Nullable String string) {
+        boolean hit = string != null && !string.isEmpty() && (string.contains("\\u")
+                || OraxenPlugin.get().getFontManager().getGlyphMatcher().containsGlyph(string));
+        (hit ? prefilterHits : prefilterMisses).increment();
+        return hit;
+    }
+
+    /**
+     * @return the amount of strings the prefilter passed on for rewriting
+     */
+    public static long getPrefilterHits() {
+        return prefilterHits.sum();
+    }
+
+    /**
+     * @return the amount of strings the prefilter wrote straight through
+     */
+    public static long getPrefilterMisses() {
+        return prefilterMisses.sum();
+    }
+
+    public static void resetPrefilterStats() {
+        prefilterHits.reset();
+        prefilterMisses.reset();
+    }
+
+    /**
+     * @return the json-component cache of the currently loaded glyphs, or null if caching is disabled
+     */
+    @Nullable
+    public static JsonComponentCache getJsonCache() {
+        GlyphMatcher matcher = OraxenPlugin.get().getFontManager().getGlyphMatcher();
+        JsonComponentCache cache = jsonCache;
+        if (cache == null || !cache.isOwnedBy(matcher)) {
+            cache = new JsonComponentCache(matcher, Settings.GLYPH_COMPONENT_CACHE_SIZE.toInt(0));
+            jsonCache = cache;
+        }
+        return cache.isEnabled() ? cache : null;
+    }
+
+    public static void resetJsonCache() {
+        jsonCache = null;
+    }
+
     public static boolean isNms() {
         return GlyphHandler.get() == GlyphHandler.NMS;
     }
@@ -45,68 +94,15 @@ public class GlyphHandlers {
         if (player != null) return escapeGlyphs(component, player);
         else return transformGlyphs(component, isUtf);
     }
-    private static final Key randomKey = Key.key("random");
 
     private static Component escapeGlyphs(Component component, @NotNull Player player) {
         component = GlobalTranslator.render(component, player.locale());
-        String serialized = AdventureUtils.MINI_MESSAGE.serialize(component);
-
-        // Replace raw unicode usage of non-permissed Glyphs with random font
-        // This will always show a white square
-        for (Glyph glyph : OraxenPlugin.get().getFontManager().getGlyphs()) {
-            if (glyph.hasPermission(player)) continue;
-
-            component = component.replaceText(
-                    TextReplacementConfig.builder()
-                            .matchLiteral(glyph.getCharacter())
-                            .replacement(glyph.getGlyphComponent().font(randomKey))
-                            .build()
-            );
-
-            // Escape all glyph-tags
-            Matcher matcher = glyph.baseRegex.matcher(serialized);
-            while (matcher.find()) {
-                component = component.replaceText(
-                        TextReplacementConfig.builder().once()
-                                .matchLiteral(matcher.group())
-                                .replacement(AdventureUtils.MINI_MESSAGE.deserialize("\\" + matcher.group()))
-                                .build()
-                );
-            }
-        }
-
-        return component;
+        // Replace raw unicode usage of non-permissed Glyphs with random font and escape their glyph-tags
+        return OraxenPlugin.get().getFontManager().getGlyphMatcher().escape(component, player);
     }
 
-    private static final Pattern colorableRegex = Pattern.compile("<glyph:.*:(c|colorable)>");
-
     private static Component transformGlyphs(Component component, boolean isUtf) {
-        String serialized = AdventureUtils.MINI_MESSAGE_EMPTY.serialize(component);
-
-        for (Glyph glyph : OraxenPlugin.get().getFontManager().getGlyphs()) {
-            Matcher matcher = glyph.baseRegex.matcher(serialized);
-            while (matcher.find()) {
-                component = component.replaceText(
-                        TextReplacementConfig.builder().once()
-                                .matchLiteral(matcher.group())
-                                .replacement(glyph.getGlyphComponent())
-                                .build());
-            }
-
-            if (isUtf) {
-                matcher = glyph.escapedRegex.matcher(serialized);
-                while (matcher.find()) {
-                    component = component.replaceText(
-                            TextReplacementConfig.builder().once()
-                                    .matchLiteral(matcher.group())
-                                    .replacement(AdventureUtils.MINI_MESSAGE_EMPTY.deserialize(StringUtils.removeStart(matcher.group(), "\\")))
-                                    .build()
-                    );
-                }
-            }
-        }
-
-        return component;
+        return OraxenPlugin.get().getFontManager().getGlyphMatcher().transform(component, isUtf);
     }
 
     public static String formatJsonString(@NotNull JsonObject obj, @Nullable Player player) {
@@ -118,15 +114,30 @@ public class GlyphHandlers {
         } else return obj.toString();
     }
 
+    /**
+     * Transforms a raw json-component, reusing the result of an identical string when it is cached.
+     * For players the cache-key also holds their locale and glyph-permissions, as both change the outcome
+     */
+    public static String formatJsonString(@NotNull String string, @Nullable Player player) {
+        if (!mightContainGlyphs(string)) return string;
+
+        JsonComponentCache cache = getJsonCache();
+        String key = cache == null ? null : player == null ? string : player.locale() + "\0"
+                + OraxenPlugin.get().getFontManager().getGlyphMatcher().permissionFingerprint(player) + "\0" + string;
+        String cached = key != null ? cache.getIfPresent(key) : null;
+        if (cached != null) return cached;
+
+        String result = string;
+        try {
+            JsonElement element = JsonParser.parseString(string);
+            if (element.isJsonObject()) result = formatJsonString(element.getAsJsonObject(), player);
+        } catch (Exception ignored) {
+        }
+        if (key != null) cache.put(key, result);
+        return result;
+    }
+
     public static Function<String, String> transformer(@Nullable Player player) {
-        return string -> {
-            try {
-                JsonElement element = JsonParser.parseString(string);
-                if (element.isJsonObject())
-                    return GlyphHandlers.formatJsonString(element.getAsJsonObject(), player);
-            } catch (Exception ignored) {
-            }
-            return string;
-        };
+        return string -> formatJsonString(string, player);
     }
 }
@@ -0,0 +1,65 @@
+package io.th0rgal.oraxen.nms;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.th0rgal.oraxen.font.GlyphMatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Size-bounded cache of already transformed json-components, keyed on the raw json string.
+ * A cache belongs to the {@link GlyphMatcher} it was filled with, so a reload of the glyphs discards it
+ */
+public class JsonComponentCache {
+
+    // Rough per-entry overhead of the two Strings, their backing arrays and the cache-entry itself
+    private static final long ENTRY_OVERHEAD = 160;
+
+    private final GlyphMatcher owner;
+    private final boolean enabled;
+    private final Cache<String, String> cache;
+
+    public JsonComponentCache(GlyphMatcher owner, long maximumSize) {
+        this.owner = owner;
+        this.enabled = maximumSize > 0;
+        this.cache = CacheBuilder.newBuilder().maximumSize(Math.max(0, maximumSize)).recordStats().build();
+    }
+
+    public boolean isOwnedBy(GlyphMatcher matcher) {
+        return owner == matcher;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Nullable
+    public String getIfPresent(@NotNull String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(@NotNull String key, @NotNull String value) {
+        cache.put(key, value);
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return the estimated amount of bytes held by the cached entries
+     */
+    public long estimateMemory() {
+        long bytes = 0;
+        for (Map.Entry<String, String> entry : cache.asMap().entrySet())
+            bytes += ENTRY_OVERHEAD + 2L * (entry.getKey().length() + entry.getValue().length());
+        return bytes;
+    }
+}
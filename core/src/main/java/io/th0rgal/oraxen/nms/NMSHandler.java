@@ -1,5 +1,6 @@
 package io.th0rgal.oraxen.nms;
 
+import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.items.ItemBuilder;
 import org.bukkit.Location;
 import org.bukkit.block.data.BlockData;
@@ -20,6 +21,18 @@ public interface NMSHandler {
 
     boolean tripwireUpdatesDisabled();
 
+    /**
+     * Reads the Oraxen item-ID straight from the custom-data of the underlying NMS item,
+     * avoiding the ItemMeta clone of {@link OraxenItems#getIdByItemMeta(ItemStack)}
+     *
+     * @param itemStack The ItemStack to read the ID from
+     * @return The Oraxen item-ID, or null if the item is not an Oraxen item
+     */
+    @Nullable
+    default String getItemId(@NotNull ItemStack itemStack) {
+        return OraxenItems.getIdByItemMeta(itemStack);
+    }
+
     /**
      * Copies over all NBT-Tags from oldItem to newItem
      * Useful for plugins that might register their own NBT-Tags outside
@@ -245,45 +245,51 @@ public class DuplicationHandler {
      * Check if the file already exists in the zip file
      */
     public static void checkForDuplicate(ZipOutputStream out, ZipEntry entry) {
-        String name = entry.getName();
         try {
             out.putNextEntry(entry);
         } catch (IOException e) {
-            File duplicateFile;
-            Path packFolder = OraxenPlugin.get().getDataFolder().toPath().resolve("pack");
-            if (packFolder.resolve(name).toFile().exists())
-                duplicateFile = packFolder.resolve(name).toFile();
-            else
-                duplicateFile = packFolder.resolve(name.replace("assets/minecraft/", "")).toFile();
-            List<String> lines = null;
+            handleDuplicate(entry.getName());
+        }
+    }
+
+    /**
+     * Attempts to migrate a file that was already written to the pack under the same name
+     */
+    public static void handleDuplicate(String name) {
+        File duplicateFile;
+        Path packFolder = OraxenPlugin.get().getDataFolder().toPath().resolve("pack");
+        if (packFolder.resolve(name).toFile().exists())
+            duplicateFile = packFolder.resolve(name).toFile();
+        else
+            duplicateFile = packFolder.resolve(name.replace("assets/minecraft/", "")).toFile();
+        List<String> lines = null;
+        try {
+            if (duplicateFile.getName().endsWith(".json"))
+                lines = FileUtils.readLines(duplicateFile, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            if (Settings.DEBUG.toBool())
+                ex.printStackTrace();
+        }
+        if (lines != null && lines.get(0).equals(DUPLICATE_LINE_STRING))
+            return;
+
+        Logs.logWarning("Duplicate file detected: <blue>" + name + "</blue> - Attempting to migrate it");
+        if (!Settings.MERGE_DUPLICATES.toBool()) {
+            Logs.logError("Not attempting to migrate duplicate file as <#22b14c>"
+                    + Settings.MERGE_DUPLICATES.getPath() + "</#22b14c> is disabled in settings.yml", true);
+        } else if (attemptToMigrateDuplicate(name)) {
+            Logs.logSuccess("Duplicate file fixed:<blue> " + name);
             try {
-                if (duplicateFile.getName().endsWith(".json"))
+                if (lines == null)
                     lines = FileUtils.readLines(duplicateFile, StandardCharsets.UTF_8);
-            } catch (IOException ex) {
-                if (Settings.DEBUG.toBool())
-                    ex.printStackTrace();
-            }
-            if (lines != null && lines.get(0).equals(DUPLICATE_LINE_STRING))
-                return;
-
-            Logs.logWarning("Duplicate file detected: <blue>" + name + "</blue> - Attempting to migrate it");
-            if (!Settings.MERGE_DUPLICATES.toBool()) {
-                Logs.logError("Not attempting to migrate duplicate file as <#22b14c>"
-                        + Settings.MERGE_DUPLICATES.getPath() + "</#22b14c> is disabled in settings.yml", true);
-            } else if (attemptToMigrateDuplicate(name)) {
-                Logs.logSuccess("Duplicate file fixed:<blue> " + name);
-                try {
-                    if (lines == null)
-                        lines = FileUtils.readLines(duplicateFile, StandardCharsets.UTF_8);
-                    lines.add(0, DUPLICATE_LINE_STRING);
-                    FileUtils.writeLines(duplicateFile, lines);
-                } catch (Exception ignored) {
-                    Logs.logError("Failed to delete the imported <blue>" + Utils.removeParentDirs(name)
-                            + "</blue> after migrating it");
-                }
-                Logs.logSuccess("It is advised to restart your server to ensure that any new conflicts are detected.",
-                        true);
+                lines.add(0, DUPLICATE_LINE_STRING);
+                FileUtils.writeLines(duplicateFile, lines);
+            } catch (Exception ignored) {
+                Logs.logError("Failed to delete the imported <blue>" + Utils.removeParentDirs(name)
+                        + "</blue> after migrating it");
             }
+            Logs.logSuccess("It is advised to restart your server to ensure that any new conflicts are detected.",
+                    true);
         }
     }
 
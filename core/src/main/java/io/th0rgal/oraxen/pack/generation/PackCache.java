@@ -0,0 +1,346 @@
+package io.th0rgal.oraxen.pack.generation;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.utils.PackZipWriter;
+import io.th0rgal.oraxen.utils.logs.Logs;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persistent manifest used by incremental pack builds.
+ * Tracks every file of the pack folder (size, mtime and content hash) together with its processed output,
+ * and every entry of the previously written pack.zip so unchanged entries can be copied raw instead of being deflated again.
+ */
+public class PackCache {
+
+    private static final int VERSION = 1;
+
+    private final File cacheFolder;
+    private final File manifestFile;
+    private final File processedFolder;
+    private final File previousPack;
+    private final Path packFolder;
+
+    private final Map<String, SourceState> previousSources = new HashMap<>();
+    private final Map<String, SourceState> sources = new HashMap<>();
+    private final Map<String, ZipState> previousEntries = new HashMap<>();
+    private final Map<String, ZipState> entries = new HashMap<>();
+    // Only read during a build, the level of the new pack is recorded when it is saved
+    private final int previousLevel;
+    private final String processing;
+    // The processed json of the previous build is only valid if it was processed with the same glyphs and prefix
+    private boolean sameProcessing = false;
+    // Size and hash of the pack.zip the previous entries point into
+    private long previousPackSize = -1;
+    @Nullable
+    private String previousPackHash;
+    private RandomAccessFile previousPackReader;
+    private int reusedFiles = 0;
+    private int reusedEntries = 0;
+
+    /**
+     * @param processing A fingerprint of everything json files are processed with besides their content
+     */
+    public PackCache(File packFolder, String processing) {
+        this.processing = processing;
+        this.packFolder = packFolder.toPath().toAbsolutePath().normalize();
+        this.cacheFolder = new File(packFolder.getParentFile(), "pack_cache");
+        this.manifestFile = new File(cacheFolder, "manifest.json");
+        this.processedFolder = new File(cacheFolder, "processed");
+        this.previousPack = new File(cacheFolder, "previous.zip");
+        this.previousLevel = load();
+    }
+
+    public static boolean isEnabled() {
+        return Settings.INCREMENTAL_PACK_BUILD.toBool();
+    }
+
+    /**
+     * @return the compression level of the previous pack, -1 if there is none
+     */
+    private int load() {
+        if (!manifestFile.exists()) return -1;
+        try {
+            JsonObject manifest = JsonParser.parseString(Files.readString(manifestFile.toPath(), StandardCharsets.UTF_8)).getAsJsonObject();
+            if (manifest.get("version").getAsInt() != VERSION) return -1;
+            for (Map.Entry<String, JsonElement> entry : manifest.getAsJsonObject("sources").entrySet())
+                previousSources.put(entry.getKey(), SourceState.fromJson(entry.getValue().getAsJsonObject()));
+            for (Map.Entry<String, JsonElement> entry : manifest.getAsJsonObject("entries").entrySet())
+                previousEntries.put(entry.getKey(), ZipState.fromJson(entry.getValue().getAsJsonObject()));
+            sameProcessing = manifest.has("processing") && manifest.get("processing").getAsString().equals(processing);
+            if (manifest.has("pack_size") && manifest.has("pack_hash")) {
+                previousPackSize = manifest.get("pack_size").getAsLong();
+                previousPackHash = manifest.get("pack_hash").getAsString();
+            }
+            return manifest.get("level").getAsInt();
+        } catch (Exception e) {
+            Logs.logWarning("Failed to read the pack cache manifest, rebuilding the pack from scratch");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+            previousSources.clear();
+            previousEntries.clear();
+            return -1;
+        }
+    }
+
+    /**
+     * @param pack  The pack.zip that was written
+     * @param level The compression level the new pack was written with
+     */
+    public void save(File pack, int level) {
+        JsonObject manifest = new JsonObject();
+        manifest.addProperty("version", VERSION);
+        manifest.addProperty("level", level);
+        manifest.addProperty("processing", processing);
+        try {
+            manifest.addProperty("pack_size", pack.length());
+            manifest.addProperty("pack_hash", hash(pack));
+        } catch (IOException e) {
+            // Without them the entries are never reused, as the next build cannot verify the pack
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+        JsonObject sourcesJson = new JsonObject();
+        sources.forEach((path, state) -> sourcesJson.add(path, state.toJson()));
+        manifest.add("sources", sourcesJson);
+        JsonObject entriesJson = new JsonObject();
+        entries.forEach((path, state) -> entriesJson.add(path, state.toJson()));
+        manifest.add("entries", entriesJson);
+
+        try {
+            Files.createDirectories(cacheFolder.toPath());
+            Files.writeString(manifestFile.toPath(), manifest.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logs.logWarning("Failed to save the pack cache manifest");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+        cleanProcessedFolder();
+    }
+
+    /**
+     * Moves the previous pack.zip into the cache so its deflated entries can be copied into the new pack.
+     * The entries are only reused if the pack is the one the manifest was saved with,
+     * a failed build or a replaced pack.zip would otherwise copy data from the wrong offsets
+     */
+    public void retainPreviousPack(File pack) {
+        try {
+            Files.createDirectories(cacheFolder.toPath());
+            if (pack.exists()) Files.move(pack.toPath(), previousPack.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            else Files.deleteIfExists(previousPack.toPath());
+        } catch (IOException e) {
+            Logs.logWarning("Failed to retain the previous pack, all entries will be compressed again");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+            previousEntries.clear();
+            return;
+        }
+
+        if (previousEntries.isEmpty()) return;
+        try {
+            if (previousPack.exists() && previousPack.length() == previousPackSize && hash(previousPack).equals(previousPackHash))
+                return;
+        } catch (IOException e) {
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+        Logs.logWarning("The previous pack does not match the pack cache, all entries will be compressed again");
+        previousEntries.clear();
+    }
+
+    /**
+     * @return whether the given pack-folder file differs from the previous build
+     */
+    public boolean hasChanged(File file) {
+        SourceState previous = previousSources.get(relativePath(file));
+        return previous == null || previous.size != file.length() || previous.modified != file.lastModified();
+    }
+
+    /**
+     * Records a pack-folder file whose content is used as-is
+     */
+    public void track(File file) {
+        sources.put(relativePath(file), new SourceState(file.length(), file.lastModified(), null, true));
+    }
+
+    /**
+     * @return the processed output of the given json file from a previous build, or null if the file changed
+     */
+    @Nullable
+    public byte[] getProcessedJson(File file) {
+        if (!sameProcessing) return null;
+        String path = relativePath(file);
+        SourceState previous = previousSources.get(path);
+        if (previous == null || previous.hash == null) return null;
+
+        try {
+            if (previous.size != file.length()) return null;
+            byte[] source = null;
+            if (previous.modified != file.lastModified()) {
+                source = Files.readAllBytes(file.toPath());
+                if (!previous.hash.equals(hash(source))) return null;
+            }
+
+            byte[] output;
+            if (previous.identity) output = source != null ? source : Files.readAllBytes(file.toPath());
+            else {
+                File processed = new File(processedFolder, previous.hash);
+                if (!processed.exists()) return null;
+                output = Files.readAllBytes(processed.toPath());
+            }
+
+            sources.put(path, new SourceState(file.length(), file.lastModified(), previous.hash, previous.identity));
+            reusedFiles++;
+            return output;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the processed output of a json file so the next build can skip processing it
+     */
+    public void putProcessedJson(File file, byte[] output) {
+        try {
+            byte[] source = Files.readAllBytes(file.toPath());
+            String hash = hash(source);
+            boolean identity = Arrays.equals(source, output);
+            if (!identity) {
+                Files.createDirectories(processedFolder.toPath());
+                Files.write(processedFolder.toPath().resolve(hash), output);
+            }
+            sources.put(relativePath(file), new SourceState(source.length, file.lastModified(), hash, identity));
+        } catch (IOException e) {
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return the deflated bytes of the entry in the previous pack, or null if the content or compression changed.
+     * Called from the compression workers, hence synchronized around the shared reader
+     */
+    @Nullable
+    public synchronized byte[] getDeflatedEntry(String name, byte[] data, String hash, int level) {
+        ZipState previous = previousEntries.get(name);
+        if (previous == null || level != previousLevel || previous.size != data.length || !previous.hash.equals(hash))
+            return null;
+
+        try {
+            if (previousPackReader == null) {
+                if (!previousPack.exists()) return null;
+                previousPackReader = new RandomAccessFile(previousPack, "r");
+            }
+            byte[] deflated = new byte[(int) previous.compressedSize];
+            previousPackReader.seek(previous.dataOffset);
+            previousPackReader.readFully(deflated);
+            reusedEntries++;
+            return deflated;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records an entry of the new pack, only called from the thread writing it
+     */
+    public void putEntry(PackZipWriter.Entry entry, String hash) {
+        entries.put(entry.name(), new ZipState(entry.size(), hash, entry.compressedSize(), entry.dataOffset()));
+    }
+
+    /**
+     * Releases the previous pack once the new one has been written
+     */
+    public synchronized void finish() {
+        try {
+            if (previousPackReader != null) previousPackReader.close();
+            previousPackReader = null;
+            Files.deleteIfExists(previousPack.toPath());
+        } catch (IOException e) {
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+        if (Settings.DEBUG.toBool())
+            Logs.logInfo("Incremental pack build reused " + reusedFiles + " processed files and " + reusedEntries + " compressed entries");
+    }
+
+    private void cleanProcessedFolder() {
+        File[] files = processedFolder.listFiles();
+        if (files == null) return;
+        Set<String> used = new HashSet<>();
+        for (SourceState state : sources.values())
+            if (state.hash != null && !state.identity) used.add(state.hash);
+        for (File file : files)
+            if (!used.contains(file.getName())) file.delete();
+    }
+
+    private String relativePath(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        return (path.startsWith(packFolder) ? packFolder.relativize(path) : path).toString().replace("\\", "/");
+    }
+
+    private static String hash(File file) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[65536];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) digest.update(buffer, 0, read);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record SourceState(long size, long modified, @Nullable String hash, boolean identity) {
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("size", size);
+            json.addProperty("modified", modified);
+            if (hash != null) json.addProperty("hash", hash);
+            json.addProperty("identity", identity);
+            return json;
+        }
+
+        private static SourceState fromJson(JsonObject json) {
+            return new SourceState(json.get("size").getAsLong(), json.get("modified").getAsLong(),
+                    json.has("hash") ? json.get("hash").getAsString() : null, json.get("identity").getAsBoolean());
+        }
+    }
+
+    private record ZipState(long size, String hash, long compressedSize, long dataOffset) {
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("size", size);
+            json.addProperty("hash", hash);
+            json.addProperty("compressed_size", compressedSize);
+            json.addProperty("offset", dataOffset);
+            return json;
+        }
+
+        private static ZipState fromJson(JsonObject json) {
+            return new ZipState(json.get("size").getAsLong(), json.get("hash").getAsString(),
+                    json.get("compressed_size").getAsLong(), json.get("offset").getAsLong());
+        }
+    }
+}
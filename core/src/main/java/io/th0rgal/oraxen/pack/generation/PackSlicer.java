@@ -7,9 +7,11 @@ import io.th0rgal.oraxen.pack.generation.slicer.InputFile;
 import io.th0rgal.oraxen.pack.generation.slicer.OutputFile;
 import io.th0rgal.oraxen.pack.generation.slicer.Slicer;
 import io.th0rgal.oraxen.utils.logs.Logs;
+import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
@@ -29,10 +31,17 @@ public class PackSlicer extends Slicer {
     }
 
     public static void slicePackFiles() {
+        slicePackFiles(null);
+    }
+
+    /**
+     * @param packCache when present, only inputs that changed since the previous build or are missing outputs are sliced
+     */
+    public static void slicePackFiles(@Nullable PackCache packCache) {
         Logs.logInfo("Slicing gui-textures to 1.20.2-format...");
         try {
-            new PackSlicer(packFolder).process(INPUTS);
-            if (assetsFolder.toFile().exists()) new PackSlicer(assetsFolder).process(INPUTS);
+            new PackSlicer(packFolder).process(changedInputs(packFolder, packCache));
+            if (assetsFolder.toFile().exists()) new PackSlicer(assetsFolder).process(changedInputs(assetsFolder, packCache));
             Logs.logSuccess("Successfully sliced gui-textures for 1.20.2");
         } catch (Exception e) {
             Logs.logWarning("Failed to properly slice textures for 1.20.2");
@@ -40,6 +49,16 @@ public class PackSlicer extends Slicer {
         }
     }
 
+    private static List<InputFile> changedInputs(Path root, @Nullable PackCache packCache) {
+        if (packCache == null) return INPUTS;
+        return INPUTS.stream().filter(input -> {
+            File inputFile = root.resolve(input.path).toFile();
+            if (!inputFile.exists()) return false;
+            if (packCache.hasChanged(inputFile)) return true;
+            return input.outputs.stream().anyMatch(output -> !root.resolve(output.path).toFile().exists());
+        }).toList();
+    }
+
     private static InputFile input(String path, OutputFile... outputs) {
         return (new InputFile(path)).outputs(outputs);
     }
@@ -4,6 +4,7 @@ import com.google.gson.*;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.api.events.OraxenPackGeneratedEvent;
+import io.th0rgal.oraxen.config.Message;
 import io.th0rgal.oraxen.config.ResourcesManager;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.font.Font;
@@ -45,6 +46,7 @@ public class ResourcePack {
     private ShaderArmorTextures shaderArmorTextures;
     private TrimArmorDatapack trimArmorDatapack;
     private ComponentArmorModels componentArmorModels;
+    private PackCache packCache;
     private static final File packFolder = new File(OraxenPlugin.get().getDataFolder(), "pack");
     private final File pack = new File(packFolder, packFolder.getName() + ".zip");
 
@@ -77,7 +79,9 @@ public class ResourcePack {
                     "Recommend following this guide for compatibility: https://docs.oraxen.com/compatibility/happyhud");
         }
 
-        try {
+        packCache = PackCache.isEnabled() ? new PackCache(packFolder, getJsonProcessingFingerprint()) : null;
+        if (packCache != null) packCache.retainPreviousPack(pack);
+        else try {
             Files.deleteIfExists(pack.toPath());
         } catch (IOException e) {
             e.printStackTrace();
@@ -101,7 +105,7 @@ public class ResourcePack {
             hideScoreboardNumbers();
         hideScoreboardOrTablistBackgrounds();
         if (Settings.TEXTURE_SLICER.toBool())
-            PackSlicer.slicePackFiles();
+            PackSlicer.slicePackFiles(packCache);
         if (CustomArmorType.getSetting() == CustomArmorType.SHADER
                 && Settings.CUSTOM_ARMOR_SHADER_GENERATE_FILES.toBool())
             ShaderArmorTextures.generateArmorShaderFiles();
@@ -149,7 +153,7 @@ public class ResourcePack {
         if (Settings.MERGE_ITEM_MODELS.toBool())
             DuplicationHandler.mergeBaseItemFiles(output);
 
-        List<String> excludedExtensions = Settings.EXCLUDED_FILE_EXTENSIONS.toStringList();
+        List<String> excludedExtensions = new ArrayList<>(Settings.EXCLUDED_FILE_EXTENSIONS.toStringList());
         excludedExtensions.removeIf(f -> f.equals("png") || f.equals("json"));
         if (!excludedExtensions.isEmpty() && !output.isEmpty()) {
             List<VirtualFile> newOutput = new ArrayList<>();
@@ -162,10 +166,11 @@ public class ResourcePack {
 
         generateSound(output);
 
+        PackCache cache = packCache;
         io.th0rgal.oraxen.utils.scheduler.OraxenScheduler.runTaskLater(OraxenPlugin.get(), () -> {
             OraxenPackGeneratedEvent event = new OraxenPackGeneratedEvent(output);
             EventUtils.callEvent(event);
-            ZipUtils.writeZipFile(pack, event.getOutput());
+            ZipUtils.writeZipFile(pack, event.getOutput(), cache);
 
             UploadManager uploadManager = OraxenPlugin.get().getUploadManager();
             if (uploadManager != null) { // If the uploadManager isnt null, this was triggered by a pack-reload
@@ -647,11 +652,14 @@ public class ResourcePack {
         try {
             final InputStream fis;
             if (file.getName().endsWith(".json"))
-                fis = processJsonFile(file);
+                fis = readJsonFile(file);
             else if (CustomArmorType.getSetting() == CustomArmorType.SHADER && shaderArmorTextures.registerImage(file))
                 return;
-            else
+            else {
                 fis = new FileInputStream(file);
+                if (packCache != null)
+                    packCache.track(file);
+            }
 
             output.add(new VirtualFile(getZipFilePath(file.getParentFile().getCanonicalPath(), newFolder),
                     file.getName(), fis));
@@ -660,6 +668,32 @@ public class ResourcePack {
         }
     }
 
+    private InputStream readJsonFile(File file) throws IOException {
+        if (packCache == null)
+            return processJsonFile(file);
+
+        byte[] cached = packCache.getProcessedJson(file);
+        if (cached != null)
+            return new ByteArrayInputStream(cached);
+
+        byte[] processed;
+        try (InputStream processedStream = processJsonFile(file)) {
+            processed = processedStream.readAllBytes();
+        }
+        packCache.putProcessedJson(file, processed);
+        return new ByteArrayInputStream(processed);
+    }
+
+    /**
+     * Hashes everything besides the file itself that json files are processed with, the glyphs and the prefix
+     */
+    private static String getJsonProcessingFingerprint() {
+        StringBuilder builder = new StringBuilder(Message.PREFIX.toString());
+        OraxenPlugin.get().getFontManager().getGlyphs().stream().sorted(Comparator.comparing(Glyph::getName)).forEach(glyph ->
+                builder.append('\n').append(glyph.getName()).append('=').append(glyph.getCharacter()).append(';').append(glyph.getPermission()));
+        return PackCache.hash(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
     private InputStream processJsonFile(File file) throws IOException {
         InputStream newStream;
         String content;
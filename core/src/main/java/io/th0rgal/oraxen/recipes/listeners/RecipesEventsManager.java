@@ -9,6 +9,7 @@ import io.th0rgal.oraxen.recipes.CustomRecipe;
 import io.th0rgal.oraxen.utils.InventoryUtils;
 import io.th0rgal.oraxen.utils.VersionUtil;
 import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -16,22 +17,32 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.PrepareItemCraftEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.CraftingInventory;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.MerchantInventory;
 import org.bukkit.inventory.Recipe;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class RecipesEventsManager implements Listener {
 
     private static RecipesEventsManager instance;
     private Map<CustomRecipe, String> permissionsPerRecipe = new HashMap<>();
-    private Set<CustomRecipe> whitelistedCraftRecipes = new HashSet<>();
     private ArrayList<CustomRecipe> whitelistedCraftRecipesOrdered = new ArrayList<>();
+    // Recipes registered by Oraxen, looked up by the key of the recipe the crafting grid matched
+    private Map<NamespacedKey, String> permissionsPerKey = new HashMap<>();
+    private Set<NamespacedKey> whitelistedCraftKeys = new HashSet<>();
+    // Whitelisted recipes by result, for other recipes with the same result and ingredients
+    private Map<ItemStack, List<CustomRecipe>> whitelistedCraftRecipesByResult = new HashMap<>();
+    // Permissions checked while a player has a crafting grid open, dropped once it is closed
+    private final Map<UUID, Map<String, Boolean>> permissionCache = new ConcurrentHashMap<>();
 
     public static RecipesEventsManager get() {
         if (instance == null) {
@@ -63,28 +74,45 @@ public class RecipesEventsManager implements Listener {
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onCrafted(PrepareItemCraftEvent event) {
         Recipe recipe = event.getRecipe();
-        CustomRecipe customRecipe = CustomRecipe.fromRecipe(recipe);
+        NamespacedKey recipeKey = recipe instanceof Keyed keyed ? keyed.getKey() : null;
+        CraftingInventory inventory = event.getInventory();
+        String permission = recipeKey != null ? permissionsPerKey.get(recipeKey) : null;
         Player player = InventoryUtils.playerFromView(event);
-        if (!hasPermission(player, customRecipe)) event.getInventory().setResult(null);
-
-        ItemStack result = event.getInventory().getResult();
-        if (result == null) return;
+        if (permission != null && player != null && !hasCachedPermission(player, permission)) inventory.setResult(null);
+
+        ItemStack result = inventory.getResult();
+        if (result == null || recipe == null) return;
+
+        // Resolve every slot once, both for finding Oraxen items and for their misc mechanic
+        boolean containsOraxenItem = false;
+        MiscMechanicFactory miscFactory = MiscMechanicFactory.get();
+        for (ItemStack item : inventory.getMatrix()) {
+            String itemID = OraxenItems.getIdByItem(item);
+            if (itemID == null || !OraxenItems.exists(itemID)) continue;
+            containsOraxenItem = true;
+
+            MiscMechanic mechanic = miscFactory != null ? miscFactory.getMechanic(itemID) : null;
+            if (mechanic != null && !mechanic.isAllowedInVanillaRecipes()) {
+                inventory.setResult(null);
+                return;
+            }
+        }
+        if (!containsOraxenItem || whitelistedCraftKeys.contains(recipeKey)) return;
 
-        boolean containsOraxenItem = Arrays.stream(event.getInventory().getMatrix()).anyMatch(OraxenItems::exists);
-        if (!containsOraxenItem || recipe == null) return;
+        CustomRecipe customRecipe = CustomRecipe.fromRecipe(recipe);
+        if (customRecipe == null || isWhitelisted(customRecipe) || customRecipe.isValidDyeRecipe()) return;
 
-        if (Arrays.stream(event.getInventory().getMatrix()).anyMatch(item -> {
-            if (MiscMechanicFactory.get() == null) return false;
-            MiscMechanic mechanic = MiscMechanicFactory.get().getMechanic(item);
-            return mechanic != null && !mechanic.isAllowedInVanillaRecipes();
-        })) {
-            event.getInventory().setResult(null);
-            return;
-        }
+        inventory.setResult(customRecipe.getResult());
+    }
 
-        if (customRecipe == null || whitelistedCraftRecipes.stream().anyMatch(customRecipe::equals) || customRecipe.isValidDyeRecipe()) return;
+    @EventHandler
+    public void onCloseInventory(InventoryCloseEvent event) {
+        permissionCache.remove(event.getPlayer().getUniqueId());
+    }
 
-        event.getInventory().setResult(customRecipe.getResult());
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        permissionCache.remove(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
@@ -96,17 +124,41 @@ public class RecipesEventsManager implements Listener {
 
     public void resetRecipes() {
         permissionsPerRecipe = new HashMap<>();
-        whitelistedCraftRecipes = new HashSet<>();
         whitelistedCraftRecipesOrdered = new ArrayList<>();
+        permissionsPerKey = new HashMap<>();
+        whitelistedCraftKeys = new HashSet<>();
+        whitelistedCraftRecipesByResult = new HashMap<>();
+        permissionCache.clear();
+    }
+
+    public void addPermissionRecipe(Recipe recipe, String permission) {
+        addPermissionRecipe(CustomRecipe.fromRecipe(recipe), permission);
+        if (recipe instanceof Keyed keyed) permissionsPerKey.put(keyed.getKey(), permission);
     }
 
     public void addPermissionRecipe(CustomRecipe recipe, String permission) {
         permissionsPerRecipe.put(recipe, permission);
     }
 
+    public void whitelistRecipe(Recipe recipe) {
+        whitelistRecipe(CustomRecipe.fromRecipe(recipe));
+        if (recipe instanceof Keyed keyed) whitelistedCraftKeys.add(keyed.getKey());
+    }
+
     public void whitelistRecipe(CustomRecipe recipe) {
-        whitelistedCraftRecipes.add(recipe);
         whitelistedCraftRecipesOrdered.add(recipe);
+        if (recipe != null)
+            whitelistedCraftRecipesByResult.computeIfAbsent(recipe.getResult(), result -> new ArrayList<>()).add(recipe);
+    }
+
+    private boolean isWhitelisted(CustomRecipe recipe) {
+        List<CustomRecipe> recipes = whitelistedCraftRecipesByResult.get(recipe.getResult());
+        return recipes != null && recipes.stream().anyMatch(recipe::equals);
+    }
+
+    private boolean hasCachedPermission(Player player, String permission) {
+        return permissionCache.computeIfAbsent(player.getUniqueId(), uuid -> new HashMap<>())
+                .computeIfAbsent(permission, player::hasPermission);
     }
 
     public List<CustomRecipe> getPermittedRecipes(CommandSender sender) {
@@ -5,7 +5,6 @@ import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.compatibilities.provided.ecoitems.WrappedEcoItem;
 import io.th0rgal.oraxen.compatibilities.provided.mythiccrucible.WrappedCrucibleItem;
 import io.th0rgal.oraxen.items.ItemUpdater;
-import io.th0rgal.oraxen.recipes.CustomRecipe;
 import io.th0rgal.oraxen.recipes.listeners.RecipesEventsManager;
 import net.Indyuce.mmoitems.MMOItems;
 import org.bukkit.Bukkit;
@@ -132,10 +131,10 @@ public abstract class RecipeLoader {
 
     protected void loadRecipe(Recipe recipe) {
         Bukkit.addRecipe(recipe);
-        managesPermission(CustomRecipe.fromRecipe(recipe));
+        managesPermission(recipe);
     }
 
-    private void managesPermission(CustomRecipe recipe) {
+    private void managesPermission(Recipe recipe) {
         if (getSection().isString("permission")) {
             String permission = getSection().getString("permission");
             RecipesEventsManager.get().addPermissionRecipe(recipe, permission);
@@ -143,7 +142,7 @@ public abstract class RecipeLoader {
     }
 
     protected void addToWhitelistedRecipes(Recipe recipe) {
-        RecipesEventsManager.get().whitelistRecipe(CustomRecipe.fromRecipe(recipe));
+        RecipesEventsManager.get().whitelistRecipe(recipe);
     }
 
 }
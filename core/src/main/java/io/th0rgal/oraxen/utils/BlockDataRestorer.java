@@ -0,0 +1,55 @@
+package io.th0rgal.oraxen.utils;
+
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.utils.scheduler.OraxenScheduler;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Puts back the BlockData of blocks that vanilla changes although they should keep their state, like powered noteblocks.
+ * Every block queued during a tick is restored once in the next tick, chunk by chunk, without applying physics.
+ * When a block is queued multiple times in a tick, the state from the first time is restored.
+ * On Folia each chunk is restored by its own region instead.
+ */
+public class BlockDataRestorer {
+
+    private static final Map<ChunkKey, Map<Block, BlockData>> PENDING = new ConcurrentHashMap<>();
+    private static final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private BlockDataRestorer() {
+    }
+
+    public static void restore(Block block, BlockData data) {
+        ChunkKey chunkKey = new ChunkKey(block.getWorld().getUID(), block.getX() >> 4, block.getZ() >> 4);
+        PENDING.computeIfAbsent(chunkKey, key -> {
+            if (VersionUtil.isFoliaServer())
+                OraxenScheduler.runTaskLater(OraxenPlugin.get(), block.getLocation(), () -> restoreChunk(key), 1L);
+            return new ConcurrentHashMap<>();
+        }).putIfAbsent(block, data);
+
+        if (!VersionUtil.isFoliaServer() && scheduled.compareAndSet(false, true))
+            OraxenScheduler.runTaskLater(OraxenPlugin.get(), BlockDataRestorer::restoreAll, 1L);
+    }
+
+    private static void restoreAll() {
+        scheduled.set(false);
+        for (ChunkKey chunkKey : PENDING.keySet())
+            restoreChunk(chunkKey);
+    }
+
+    private static void restoreChunk(ChunkKey chunkKey) {
+        Map<Block, BlockData> blocks = PENDING.remove(chunkKey);
+        if (blocks == null || blocks.isEmpty()) return;
+        // Restoring the blocks of an unloaded chunk would load it again
+        if (!blocks.keySet().iterator().next().getWorld().isChunkLoaded(chunkKey.x, chunkKey.z)) return;
+        blocks.forEach((block, data) -> block.setBlockData(data, false));
+    }
+
+    private record ChunkKey(UUID world, int x, int z) {
+    }
+}
@@ -6,6 +6,7 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -13,17 +14,25 @@ import java.io.IOException;
 public class OraxenYaml extends YamlConfiguration {
 
     public static boolean isValidYaml(File file) {
+        return loadValidConfiguration(file) != null;
+    }
+
+    /**
+     * @return the loaded configuration, or null if the file is not valid YAML
+     */
+    @Nullable
+    public static YamlConfiguration loadValidConfiguration(File file) {
         YamlConfiguration config = new YamlConfiguration();
         try {
             config.load(file);
-            return true;
+            return config;
         } catch (InvalidConfigurationException e) {
             Logs.logError("Error loading YAML configuration file: " + file.getPath());
             Logs.logError("Ensure that your config is formatted correctly:");
             Logs.logWarning(e.getMessage());
-            return false;
+            return null;
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
@@ -0,0 +1,253 @@
+package io.th0rgal.oraxen.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Minimal zip writer that, unlike {@link java.util.zip.ZipOutputStream}, accepts entries that are already deflated.
+ * The archive layout mirrors what ZipOutputStream produces for the pack (UTF-8 names, epoch timestamps and the
+ * same central-directory values when protection is enabled), so both writers can be used interchangeably.
+ */
+public class PackZipWriter implements Closeable {
+
+    private static final int LOC_SIG = 0x04034b50;
+    private static final int CEN_SIG = 0x02014b50;
+    private static final int END_SIG = 0x06054b50;
+    private static final int ZIP64_END_SIG = 0x06064b50;
+    private static final int ZIP64_LOC_SIG = 0x07064b50;
+    private static final int UTF8_FLAG = 0x800;
+    private static final int DEFLATED = 8;
+    private static final int DOSTIME_BEFORE_1980 = (1 << 21) | (1 << 16);
+    private static final int EXTID_EXTT = 0x5455;
+    private static final int EXTID_ZIP64 = 0x0001;
+    private static final long ZIP64_MAGICVAL = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGICCOUNT = 0xFFFF;
+
+    private final OutputStream out;
+    private final int level;
+    private final byte[] comment;
+    private final boolean protection;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private long written = 0;
+
+    public PackZipWriter(File file, int level, String comment, boolean protection) throws IOException {
+        this.out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16);
+        this.level = level;
+        this.comment = comment != null ? comment.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        this.protection = protection;
+    }
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Deflates and writes the given content
+     * @return the written entry, or null if an entry with that name was already written
+     */
+    public Entry writeEntry(String name, byte[] data) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return writeRawEntry(name, crc.getValue(), data.length, deflate(data, level), protectedSize(data));
+    }
+
+    /**
+     * Writes an entry whose content has already been deflated (raw deflate, no zlib wrapper)
+     * @return the written entry, or null if an entry with that name was already written
+     */
+    public Entry writeRawEntry(String name, long crc, long size, byte[] deflated, long protectedSize) throws IOException {
+        if (!names.add(name)) return null;
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        long headerOffset = written;
+
+        writeInt(LOC_SIG);
+        writeShort(20);
+        writeShort(UTF8_FLAG);
+        writeShort(DEFLATED);
+        writeInt(DOSTIME_BEFORE_1980);
+        writeInt(crc);
+        writeInt(deflated.length);
+        writeInt(size);
+        writeShort(nameBytes.length);
+        writeShort(9);
+        writeBytes(nameBytes);
+        writeExtendedTimestamp();
+        long dataOffset = written;
+        writeBytes(deflated);
+
+        Entry entry = new Entry(name, crc, size, deflated.length, headerOffset, dataOffset, protectedSize);
+        entries.add(entry);
+        return entry;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            long cenOffset = written;
+            for (Entry entry : entries) writeCentralEntry(entry);
+            long cenSize = written - cenOffset;
+            writeEnd(cenOffset, cenSize);
+            out.flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    private void writeCentralEntry(Entry entry) throws IOException {
+        byte[] nameBytes = entry.name.getBytes(StandardCharsets.UTF_8);
+        long crc = protection ? 1024 : entry.crc;
+        long size = protection ? entry.protectedSize : entry.size;
+        boolean zip64Size = size >= ZIP64_MAGICVAL;
+        boolean zip64Offset = entry.headerOffset >= ZIP64_MAGICVAL;
+        int zip64Length = (zip64Size ? 8 : 0) + (zip64Offset ? 8 : 0);
+        int version = zip64Length > 0 ? 45 : 20;
+
+        writeInt(CEN_SIG);
+        writeShort(version);
+        writeShort(version);
+        writeShort(UTF8_FLAG);
+        writeShort(DEFLATED);
+        writeInt(DOSTIME_BEFORE_1980);
+        writeInt(crc);
+        writeInt(entry.compressedSize);
+        writeInt(zip64Size ? ZIP64_MAGICVAL : size);
+        writeShort(nameBytes.length);
+        writeShort((zip64Length > 0 ? zip64Length + 4 : 0) + 9);
+        writeShort(0);
+        writeShort(0);
+        writeShort(0);
+        writeInt(0);
+        writeInt(zip64Offset ? ZIP64_MAGICVAL : entry.headerOffset);
+        writeBytes(nameBytes);
+        if (zip64Length > 0) {
+            writeShort(EXTID_ZIP64);
+            writeShort(zip64Length);
+            if (zip64Size) writeLong(size);
+            if (zip64Offset) writeLong(entry.headerOffset);
+        }
+        writeExtendedTimestamp();
+    }
+
+    private void writeEnd(long cenOffset, long cenSize) throws IOException {
+        int count = entries.size();
+        boolean zip64 = count >= ZIP64_MAGICCOUNT || cenOffset >= ZIP64_MAGICVAL || cenSize >= ZIP64_MAGICVAL;
+        if (zip64) {
+            long zip64EndOffset = written;
+            writeInt(ZIP64_END_SIG);
+            writeLong(44);
+            writeShort(45);
+            writeShort(45);
+            writeInt(0);
+            writeInt(0);
+            writeLong(count);
+            writeLong(count);
+            writeLong(cenSize);
+            writeLong(cenOffset);
+
+            writeInt(ZIP64_LOC_SIG);
+            writeInt(0);
+            writeLong(zip64EndOffset);
+            writeInt(1);
+        }
+        writeInt(END_SIG);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, ZIP64_MAGICCOUNT));
+        writeShort(Math.min(count, ZIP64_MAGICCOUNT));
+        writeInt(Math.min(cenSize, ZIP64_MAGICVAL));
+        writeInt(Math.min(cenOffset, ZIP64_MAGICVAL));
+        writeShort(comment.length);
+        writeBytes(comment);
+    }
+
+    private void writeExtendedTimestamp() throws IOException {
+        writeShort(EXTID_EXTT);
+        writeShort(5);
+        out.write(0x1);
+        written++;
+        writeInt(0);
+    }
+
+    public static byte[] deflate(byte[] data, int level) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            return deflate(data, deflater);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] deflate(byte[] data, Deflater deflater) {
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            output.write(buffer, 0, length);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * The bogus uncompressed size ZipUtils has always written for protected packs,
+     * derived from the last 1KB read buffer of the entry
+     */
+    public static long protectedSize(byte[] data) {
+        byte[] buffer = new byte[1024];
+        for (int offset = 0; offset < data.length; offset += buffer.length)
+            System.arraycopy(data, offset, buffer, 0, Math.min(buffer.length, data.length - offset));
+        return new BigInteger(buffer).mod(BigInteger.valueOf(Long.MAX_VALUE)).longValue();
+    }
+
+    private void writeShort(int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+        written += 2;
+    }
+
+    private void writeInt(long value) throws IOException {
+        out.write((int) (value & 0xFF));
+        out.write((int) ((value >>> 8) & 0xFF));
+        out.write((int) ((value >>> 16) & 0xFF));
+        out.write((int) ((value >>> 24) & 0xFF));
+        written += 4;
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt(value & 0xFFFFFFFFL);
+        writeInt(value >>> 32);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        out.write(bytes);
+        written += bytes.length;
+    }
+
+    public record Entry(String name, long crc, long size, long compressedSize, long headerOffset, long dataOffset,
+                        long protectedSize) {
+    }
+}
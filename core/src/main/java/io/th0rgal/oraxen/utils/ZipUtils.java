@@ -2,15 +2,24 @@ package io.th0rgal.oraxen.utils;
 
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.pack.generation.DuplicationHandler;
+import io.th0rgal.oraxen.pack.generation.PackCache;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -22,18 +31,163 @@ public class ZipUtils {
 
     public static void writeZipFile(final File outputFile,
                                     final List<VirtualFile> fileList) {
+        writeZipFile(outputFile, fileList, null);
+    }
+
+    /**
+     * Writes the pack, compressing entries on a worker pool (one Deflater per worker) and writing them
+     * in the order of the given list so the output stays deterministic.
+     * Workers only compress up to twice as many entries ahead of the writer as there are workers, so the compressed pack is never held in memory at once.
+     * When a PackCache is given, entries whose content did not change are copied raw from the previous pack.
+     */
+    public static void writeZipFile(final File outputFile,
+                                    final List<VirtualFile> fileList,
+                                    @Nullable final PackCache packCache) {
+        final int level;
+        try {
+            level = getCompressionLevel();
+        } catch (NoSuchFieldException | IllegalAccessException ex) {
+            ex.printStackTrace();
+            return;
+        }
 
-        try (final FileOutputStream fos = new FileOutputStream(outputFile);
-             final ZipOutputStream zos = new ZipOutputStream(fos, StandardCharsets.UTF_8)) {
-            final int compressionLevel = Deflater.class.getDeclaredField(Settings.COMPRESSION.toString()).getInt(null);
-            zos.setLevel(compressionLevel);
-            zos.setComment(Settings.COMMENT.toString());
-            for (final VirtualFile file : fileList) {
-                addToZip(file.getPath(), file.getInputStream(), zos);
+        final boolean success = writeZipFile(outputFile, fileList, packCache, level, Settings.COMMENT.toString(),
+                Settings.PROTECTION.toBool(), DuplicationHandler::handleDuplicate);
+        if (success && packCache != null) packCache.save(outputFile, level);
+    }
+
+    /**
+     * Writes the pack with the given options instead of the ones from the settings
+     *
+     * @param duplicateHandler Called with the path of every file skipped because an earlier file has the same path
+     * @return whether the pack was written completely
+     */
+    public static boolean writeZipFile(final File outputFile,
+                                       final List<VirtualFile> fileList,
+                                       @Nullable final PackCache packCache,
+                                       final int level,
+                                       final String comment,
+                                       final boolean protection,
+                                       final Consumer<String> duplicateHandler) {
+        // The first file with a given path wins, later ones are handed to the DuplicationHandler
+        final List<VirtualFile> entries = new ArrayList<>(fileList.size());
+        final List<String> duplicates = new ArrayList<>();
+        final Set<String> paths = new HashSet<>();
+        for (final VirtualFile file : fileList) {
+            if (paths.add(file.getPath())) entries.add(file);
+            else {
+                duplicates.add(file.getPath());
+                closeQuietly(file.getInputStream());
             }
+        }
+
+        final int workers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), entries.size()));
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        final WriteWindow window = new WriteWindow(workers * 2);
+        final List<CompletableFuture<CompressedEntry>> results = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) results.add(new CompletableFuture<>());
+        for (int worker = 0; worker < workers; worker++) {
+            final int offset = worker;
+            executor.execute(() -> {
+                final Deflater deflater = new Deflater(level, true);
+                try {
+                    for (int i = offset; i < entries.size(); i += workers) {
+                        final CompletableFuture<CompressedEntry> result = results.get(i);
+                        try {
+                            window.await(i);
+                            result.complete(compress(entries.get(i), deflater, level, packCache));
+                        } catch (InterruptedException ex) {
+                            result.completeExceptionally(ex);
+                            return;
+                        } catch (Throwable throwable) {
+                            result.completeExceptionally(throwable);
+                        }
+                    }
+                } finally {
+                    deflater.end();
+                }
+            });
+        }
+        executor.shutdown();
 
-        } catch (final IOException | NoSuchFieldException | IllegalAccessException ex) {
+        boolean success = false;
+        try (final PackZipWriter writer = new PackZipWriter(outputFile, level, comment, protection)) {
+            for (int i = 0; i < results.size(); i++) {
+                final CompressedEntry compressed = results.get(i).join();
+                results.set(i, null);
+                final PackZipWriter.Entry entry = writer.writeRawEntry(compressed.path, compressed.crc,
+                        compressed.size, compressed.deflated, compressed.protectedSize);
+                if (packCache != null) packCache.putEntry(entry, compressed.hash);
+                window.advance();
+            }
+            success = true;
+        } catch (final IOException | CompletionException ex) {
             ex.printStackTrace();
+            executor.shutdownNow();
+        } finally {
+            if (packCache != null) packCache.finish();
+        }
+
+        for (final String duplicate : duplicates)
+            duplicateHandler.accept(duplicate);
+        return success;
+    }
+
+    private static CompressedEntry compress(final VirtualFile file, final Deflater deflater, final int level,
+                                            @Nullable final PackCache packCache) {
+        final String path = file.getPath();
+        final byte[] data = readBytes(file.getInputStream());
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+
+        final String hash = packCache != null ? PackCache.hash(data) : null;
+        byte[] deflated = packCache != null ? packCache.getDeflatedEntry(path, data, hash, level) : null;
+        if (deflated == null) deflated = PackZipWriter.deflate(data, deflater);
+
+        return new CompressedEntry(path, crc.getValue(), data.length, deflated, PackZipWriter.protectedSize(data), hash);
+    }
+
+    /**
+     * The entries workers are allowed to compress, from the next one to write up to its size ahead
+     */
+    private static class WriteWindow {
+        private final int size;
+        private int written = 0;
+
+        private WriteWindow(final int size) {
+            this.size = size;
+        }
+
+        private synchronized void await(final int index) throws InterruptedException {
+            while (index >= written + size) wait();
+        }
+
+        private synchronized void advance() {
+            written++;
+            notifyAll();
+        }
+    }
+
+    private record CompressedEntry(String path, long crc, long size, byte[] deflated, long protectedSize,
+                                   @Nullable String hash) {
+    }
+
+    public static int getCompressionLevel() throws NoSuchFieldException, IllegalAccessException {
+        return Deflater.class.getDeclaredField(Settings.COMPRESSION.toString()).getInt(null);
+    }
+
+    private static byte[] readBytes(final InputStream fis) {
+        try (fis) {
+            return fis.readAllBytes();
+        } catch (IOException ignored) {
+            return new byte[0];
+        }
+    }
+
+    private static void closeQuietly(final InputStream fis) {
+        try {
+            fis.close();
+        } catch (IOException ignored) {
         }
     }
 
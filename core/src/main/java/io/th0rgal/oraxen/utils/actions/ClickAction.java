@@ -2,13 +2,17 @@ package io.th0rgal.oraxen.utils.actions;
 
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.utils.logs.Logs;
 import me.gabytm.util.actions.actions.Action;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -19,16 +23,39 @@ import java.util.List;
 
 public class ClickAction {
 
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    // Conditions are compiled to bytecode once they have been evaluated a few times, falling back to interpreting them if that fails
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, ClickAction.class.getClassLoader()));
+    // The context caches reflective property lookups, so one is kept per thread and only its root object is swapped
+    private static final ThreadLocal<StandardEvaluationContext> CONTEXT = ThreadLocal.withInitial(() -> {
+        final StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("server", Bukkit.getServer());
+        return context;
+    });
 
-    private final List<String> conditions;
+    private final List<Expression> conditions;
     private final List<Action<Player>> actions;
 
     private ClickAction(List<String> conditions, List<Action<Player>> actions) {
-        this.conditions = conditions;
+        this.conditions = parseConditions(conditions);
         this.actions = actions;
     }
 
+    private static List<Expression> parseConditions(final List<String> conditions) {
+        if (conditions.isEmpty()) return Collections.emptyList();
+
+        final List<Expression> expressions = new ArrayList<>(conditions.size());
+        for (final String condition : conditions) {
+            try {
+                expressions.add(PARSER.parseExpression(condition));
+            } catch (ParseException e) {
+                Logs.logWarning("Invalid clickAction condition \"" + condition + "\", it will be ignored: " + e.getMessage());
+                if (Settings.DEBUG.toBool()) e.printStackTrace();
+            }
+        }
+        return expressions;
+    }
+
     @SuppressWarnings("unchecked")
     private static ClickAction from(final LinkedHashMap<String, Object> config) {
         final List<String> conditions = (List<String>) config.getOrDefault("conditions", Collections.emptyList());
@@ -75,20 +102,26 @@ public class ClickAction {
         if (conditions.isEmpty()) return true;
         if (actions.isEmpty()) return false;
 
-        final StandardEvaluationContext context = new StandardEvaluationContext(player);
+        final StandardEvaluationContext context = CONTEXT.get();
+        context.setRootObject(player);
         context.setVariable("player", player);
-        context.setVariable("server", Bukkit.getServer());
 
-        for (final String condition : conditions) {
-            try {
-                final Boolean result = PARSER.parseExpression(condition).getValue(context, Boolean.class);
+        try {
+            for (final Expression condition : conditions) {
+                try {
+                    final Boolean result = condition.getValue(context, Boolean.class);
 
-                if (result == null || !result) {
-                    return false;
+                    if (result == null || !result) {
+                        return false;
+                    }
+                } catch (SpelEvaluationException e) {
+                    if (Settings.DEBUG.toBool()) e.printStackTrace();
                 }
-            } catch (ParseException | SpelEvaluationException e) {
-                if (Settings.DEBUG.toBool()) e.printStackTrace();
             }
+        } finally {
+            // Don't keep the player referenced once the conditions are evaluated
+            context.setRootObject(null);
+            context.setVariable("player", null);
         }
 
         return true;
@@ -0,0 +1,116 @@
+package io.th0rgal.oraxen.utils.timers;
+
+import io.th0rgal.oraxen.utils.scheduler.OraxenScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cooldowns of every {@link TimersFactory}, stored as a single expiry timestamp per player and factory.
+ * Expired cooldowns are dropped periodically and when a player quits, so only running cooldowns are kept.
+ * Running cooldowns survive a quit, rejoining does not reset them.
+ */
+public final class CooldownStore {
+
+    private static final long SWEEP_PERIOD = 20L * 60;
+    private static final AtomicInteger NEXT_KEY = new AtomicInteger();
+    private static final Map<UUID, PlayerCooldowns> COOLDOWNS = new ConcurrentHashMap<>();
+
+    private CooldownStore() {
+    }
+
+    public static void registerListener(JavaPlugin plugin) {
+        Bukkit.getPluginManager().registerEvents(new CooldownListener(), plugin);
+        OraxenScheduler.runTaskTimer(plugin, CooldownStore::sweep, SWEEP_PERIOD, SWEEP_PERIOD);
+    }
+
+    static int nextKey() {
+        return NEXT_KEY.getAndIncrement();
+    }
+
+    static long getExpiry(UUID player, int key) {
+        PlayerCooldowns cooldowns = COOLDOWNS.get(player);
+        return cooldowns != null ? cooldowns.get(key) : 0L;
+    }
+
+    static void setExpiry(UUID player, int key, long expiry) {
+        COOLDOWNS.compute(player, (uuid, cooldowns) -> {
+            if (cooldowns == null) cooldowns = new PlayerCooldowns();
+            cooldowns.put(key, expiry);
+            return cooldowns;
+        });
+    }
+
+    /**
+     * Drops every expired cooldown, and players without any running cooldown
+     */
+    private static void sweep() {
+        long now = System.currentTimeMillis();
+        for (UUID player : COOLDOWNS.keySet())
+            sweep(player, now);
+    }
+
+    private static void sweep(UUID player, long now) {
+        COOLDOWNS.computeIfPresent(player, (uuid, cooldowns) -> cooldowns.removeExpired(now) ? null : cooldowns);
+    }
+
+    private static class CooldownListener implements Listener {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerQuit(PlayerQuitEvent event) {
+            sweep(event.getPlayer().getUniqueId(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Expiry timestamps of a single player, keyed by {@link TimersFactory}.
+     * Players rarely have more than a few running cooldowns, so these are plain arrays that are scanned
+     */
+    private static class PlayerCooldowns {
+        private int[] keys = new int[2];
+        private long[] expiries = new long[2];
+        private int size = 0;
+
+        private synchronized long get(int key) {
+            for (int i = 0; i < size; i++)
+                if (keys[i] == key) return expiries[i];
+            return 0L;
+        }
+
+        private synchronized void put(int key, long expiry) {
+            for (int i = 0; i < size; i++)
+                if (keys[i] == key) {
+                    expiries[i] = expiry;
+                    return;
+                }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                expiries = Arrays.copyOf(expiries, size * 2);
+            }
+            keys[size] = key;
+            expiries[size++] = expiry;
+        }
+
+        /**
+         * @return true if no cooldown is running anymore
+         */
+        private synchronized boolean removeExpired(long now) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (expiries[i] <= now) continue;
+                keys[kept] = keys[i];
+                expiries[kept++] = expiries[i];
+            }
+            size = kept;
+            return size == 0;
+        }
+    }
+}
@@ -5,32 +5,33 @@ import io.th0rgal.oraxen.utils.AdventureUtils;
 import org.bukkit.entity.Player;
 
 import java.text.DecimalFormat;
+import java.util.UUID;
 
 public class Timer {
 
     public static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("##.##");
-    private long lastUsage = 0;
+    private final UUID playerId;
+    private final int key;
     private final long delay;
 
-    Timer(long delay) {
+    Timer(UUID playerId, int key, long delay) {
+        this.playerId = playerId;
+        this.key = key;
         this.delay = delay;
     }
 
-    Timer(int delay) {
-        this.delay = delay;
-    }
-
-
     public void reset() {
-        lastUsage = System.currentTimeMillis();
+        // Without a delay the cooldown is finished right away, there is nothing to store
+        if (delay > 0)
+            CooldownStore.setExpiry(playerId, key, System.currentTimeMillis() + delay);
     }
 
     public boolean isFinished() {
-        return System.currentTimeMillis() >= lastUsage + delay;
+        return System.currentTimeMillis() >= CooldownStore.getExpiry(playerId, key);
     }
 
     public long getRemainingTime() {
-        return lastUsage + delay - System.currentTimeMillis();
+        return CooldownStore.getExpiry(playerId, key) - System.currentTimeMillis();
     }
 
     public String getString() {
@@ -2,14 +2,13 @@ package io.th0rgal.oraxen.utils.timers;
 
 import org.bukkit.entity.Player;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
+/**
+ * Hands out the {@link Timer} of a player for one cooldown, the timestamps themselves live in the {@link CooldownStore}
+ */
 public class TimersFactory {
 
     private final long delay;
-    private final Map<UUID, Timer> timersPerUUID = new HashMap<>();
+    private final int key = CooldownStore.nextKey();
 
     public TimersFactory(int delay) {
         this.delay = delay;
@@ -20,8 +19,7 @@ public class TimersFactory {
     }
 
     public Timer getTimer(Player player) {
-        UUID playerUniqueID = player.getUniqueId();
-        return timersPerUUID.computeIfAbsent(playerUniqueID, uuid -> new Timer(delay));
+        return new Timer(player.getUniqueId(), key, delay);
     }
 
 }
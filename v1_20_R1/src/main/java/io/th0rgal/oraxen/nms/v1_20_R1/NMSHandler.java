@@ -9,11 +9,13 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import io.papermc.paper.adventure.PaperAdventure;
 import io.papermc.paper.configuration.GlobalConfiguration;
 import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.nms.GlyphHandler;
 import io.th0rgal.oraxen.nms.GlyphHandlers;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.BlockHelpers;
 import io.th0rgal.oraxen.utils.VersionUtil;
+import io.th0rgal.oraxen.utils.logs.Logs;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import net.kyori.adventure.text.Component;
@@ -69,6 +71,10 @@ import java.util.function.Function;
 
 public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
 
+    private static final String BUKKIT_VALUES = "PublicBukkitValues";
+    private static final String ITEM_ID_KEY = OraxenItems.ITEM_ID.toString();
+    private static final Field CRAFT_ITEM_HANDLE = craftItemHandle();
+
     private final io.th0rgal.oraxen.nms.GlyphHandler glyphHandler;
 
     public NMSHandler() {
@@ -80,6 +86,36 @@ public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
         return glyphHandler;
     }
 
+    @Override
+    @Nullable
+    public String getItemId(@NotNull ItemStack itemStack) {
+        if (CRAFT_ITEM_HANDLE == null || !(itemStack instanceof CraftItemStack))
+            return OraxenItems.getIdByItemMeta(itemStack);
+
+        net.minecraft.world.item.ItemStack handle;
+        try {
+            handle = (net.minecraft.world.item.ItemStack) CRAFT_ITEM_HANDLE.get(itemStack);
+        } catch (IllegalAccessException e) {
+            return OraxenItems.getIdByItemMeta(itemStack);
+        }
+        if (handle == null) return null;
+        CompoundTag tag = handle.getTag();
+        return tag != null && tag.get(BUKKIT_VALUES) instanceof CompoundTag values
+                && values.get(ITEM_ID_KEY) instanceof StringTag id ? id.getAsString() : null;
+    }
+
+    @Nullable
+    private static Field craftItemHandle() {
+        try {
+            Field field = CraftItemStack.class.getDeclaredField("handle");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Logs.logWarning("Failed to access the handle of CraftItemStack, item-IDs will be read through the ItemMeta");
+            return null;
+        }
+    }
+
 
 
     @Override
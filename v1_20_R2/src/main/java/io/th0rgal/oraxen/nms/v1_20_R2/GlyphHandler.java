@@ -1,7 +1,5 @@
 package io.th0rgal.oraxen.nms.v1_20_R2;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.handler.codec.ByteToMessageDecoder;
@@ -196,19 +194,15 @@ public class GlyphHandler implements io.th0rgal.oraxen.nms.GlyphHandler {
 
         @Override
         public @NotNull FriendlyByteBuf writeUtf(@NotNull String string, int maxLength) {
-            try {
-                JsonElement element = JsonParser.parseString(string);
-                if (element.isJsonObject())
-                    return super.writeUtf(GlyphHandlers.formatJsonString(element.getAsJsonObject(), null), maxLength);
-            } catch (Exception ignored) {
-            }
-
-            return super.writeUtf(string, maxLength);
+            return super.writeUtf(GlyphHandlers.formatJsonString(string, null), maxLength);
         }
 
         @Override
         public @NotNull String readUtf(int i) {
             String string = super.readUtf(i);
+            if (!GlyphHandlers.mightContainGlyphs(string))
+                return string;
+
             Component component;
             try {
                 component = AdventureUtils.MINI_MESSAGE_EMPTY.deserialize(string);
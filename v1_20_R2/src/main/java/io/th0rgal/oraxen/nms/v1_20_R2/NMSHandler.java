@@ -1,16 +1,19 @@
 package io.th0rgal.oraxen.nms.v1_20_R2;
 
 import io.papermc.paper.configuration.GlobalConfiguration;
+import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.items.ItemBuilder;
 import io.th0rgal.oraxen.nms.GlyphHandler;
 import io.th0rgal.oraxen.utils.BlockHelpers;
 import io.th0rgal.oraxen.utils.VersionUtil;
+import io.th0rgal.oraxen.utils.logs.Logs;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.network.protocol.common.ClientboundUpdateTagsPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -41,11 +44,16 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
 public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
 
+    private static final String BUKKIT_VALUES = "PublicBukkitValues";
+    private static final String ITEM_ID_KEY = OraxenItems.ITEM_ID.toString();
+    private static final Field CRAFT_ITEM_HANDLE = craftItemHandle();
+
     private final io.th0rgal.oraxen.nms.GlyphHandler glyphHandler;
 
     public NMSHandler() {
@@ -57,6 +65,36 @@ public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
         return glyphHandler;
     }
 
+    @Override
+    @Nullable
+    public String getItemId(@NotNull ItemStack itemStack) {
+        if (CRAFT_ITEM_HANDLE == null || !(itemStack instanceof CraftItemStack))
+            return OraxenItems.getIdByItemMeta(itemStack);
+
+        net.minecraft.world.item.ItemStack handle;
+        try {
+            handle = (net.minecraft.world.item.ItemStack) CRAFT_ITEM_HANDLE.get(itemStack);
+        } catch (IllegalAccessException e) {
+            return OraxenItems.getIdByItemMeta(itemStack);
+        }
+        if (handle == null) return null;
+        CompoundTag tag = handle.getTag();
+        return tag != null && tag.get(BUKKIT_VALUES) instanceof CompoundTag values
+                && values.get(ITEM_ID_KEY) instanceof StringTag id ? id.getAsString() : null;
+    }
+
+    @Nullable
+    private static Field craftItemHandle() {
+        try {
+            Field field = CraftItemStack.class.getDeclaredField("handle");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Logs.logWarning("Failed to access the handle of CraftItemStack, item-IDs will be read through the ItemMeta");
+            return null;
+        }
+    }
+
     @Override
     public boolean tripwireUpdatesDisabled() {
         return (VersionUtil.isPaperServer() || VersionUtil.isFoliaServer()) && GlobalConfiguration.get().blockUpdates.disableTripwireUpdates;
@@ -6,6 +6,7 @@ import io.netty.channel.ChannelPromise;
 import io.papermc.paper.configuration.GlobalConfiguration;
 import io.papermc.paper.network.ChannelInitializeListenerHolder;
 import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.items.ItemBuilder;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanicFactory;
 import io.th0rgal.oraxen.nms.GlyphHandler;
@@ -18,9 +19,11 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.common.ClientboundUpdateTagsPacket;
 import net.minecraft.resources.ResourceKey;
@@ -32,6 +35,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.item.context.DirectionalPlaceContext;
 import net.minecraft.world.item.context.UseOnContext;
@@ -69,6 +73,10 @@ import java.util.Map;
 
 public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
 
+    private static final String BUKKIT_VALUES = "PublicBukkitValues";
+    private static final String ITEM_ID_KEY = OraxenItems.ITEM_ID.toString();
+    private static final Field CRAFT_ITEM_HANDLE = craftItemHandle();
+
     private final GlyphHandler glyphHandler;
 
     public NMSHandler() {
@@ -105,6 +113,38 @@ public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
         return glyphHandler;
     }
 
+    @Override
+    @Nullable
+    public String getItemId(@NotNull ItemStack itemStack) {
+        if (CRAFT_ITEM_HANDLE == null || !(itemStack instanceof CraftItemStack))
+            return OraxenItems.getIdByItemMeta(itemStack);
+
+        net.minecraft.world.item.ItemStack handle;
+        try {
+            handle = (net.minecraft.world.item.ItemStack) CRAFT_ITEM_HANDLE.get(itemStack);
+        } catch (IllegalAccessException e) {
+            return OraxenItems.getIdByItemMeta(itemStack);
+        }
+        if (handle == null) return null;
+        CustomData customData = handle.get(DataComponents.CUSTOM_DATA);
+        if (customData == null) return null;
+        // getUnsafe exposes the tag without the defensive copy made by copyTag, it is only read here
+        return customData.getUnsafe().get(BUKKIT_VALUES) instanceof CompoundTag values
+                && values.get(ITEM_ID_KEY) instanceof StringTag id ? id.getAsString() : null;
+    }
+
+    @Nullable
+    private static Field craftItemHandle() {
+        try {
+            Field field = CraftItemStack.class.getDeclaredField("handle");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Logs.logWarning("Failed to access the handle of CraftItemStack, item-IDs will be read through the ItemMeta");
+            return null;
+        }
+    }
+
     @Override
     public boolean tripwireUpdatesDisabled() {
         return VersionUtil.isPaperServer() && GlobalConfiguration.get().blockUpdates.disableTripwireUpdates;